@@ -0,0 +1,111 @@
+package techblog.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import techblog.dto.response.BlogPostResponse;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Cacheable 캐시 설정 (로컬 Caffeine L1 + Redis L2, 트렌드는 TrendSnapshotService의 스냅샷 사용)
+ * L2는 캐시마다 값 타입을 지정한 JSON 직렬화를 사용해서 클래스 정보 없이 저장한다
+ * L1은 캐시별 최대 항목 수와 짧은 TTL을 두고, 변경은 Redis pub/sub으로 모든 인스턴스에서 지운다
+ */
+@Configuration
+public class CacheConfig {
+    public static final String RECENT_POSTS = "recentPosts";
+    private static final String KEY_PREFIX = "cache:";
+
+    @Value("${application.cache.recent-posts-ttl:5m}")
+    private Duration recentPostsTtl;
+
+    // 캐시별 L1 최대 항목 수, L1 TTL (무효화 알림을 놓친 인스턴스도 이 시간 안에 L2 값으로 돌아옴)
+    // 항목 수로 제한해서 저장할 때마다 값을 직렬화해 크기를 재지 않는다
+    @Value("${application.cache.local.max-entries:1000}")
+    private long localMaxEntries;
+
+    @Value("${application.cache.local.ttl:1m}")
+    private Duration localTtl;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry) {
+        Map<String, Jackson2JsonRedisSerializer<Object>> serializers = Map.of(
+                RECENT_POSTS, new Jackson2JsonRedisSerializer<>(objectMapper,
+                        objectMapper.constructType(new TypeReference<List<BlogPostResponse>>() {
+                        })));
+        Map<String, Duration> ttls = Map.of(RECENT_POSTS, recentPostsTtl);
+
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        serializers.forEach((name, serializer) -> configurations.put(name,
+                redisCacheConfiguration(ttls.get(name), serializer)));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .withInitialCacheConfigurations(configurations)
+                .disableCreateOnMissingCache()
+                .enableStatistics()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisTemplate);
+        Map<String, TwoLevelCache> caches = new HashMap<>();
+        serializers.forEach((name, serializer) -> {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(localMaxEntries)
+                    .expireAfterWrite(localTtl)
+                    .recordStats()
+                    .build();
+            RedisCache remote = (RedisCache) redisCacheManager.getCache(name);
+
+            // 캐시별 적중/실패/제거 지표 (cache.gets, cache.evictions 등, level 태그로 L1/L2 구분)
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("level", "l1"));
+            new RedisCacheMetrics(remote, Tags.of("level", "l2")).bindTo(meterRegistry);
+
+            caches.put(name, new TwoLevelCache(name, local, remote, cacheManager));
+        });
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 캐시 무효화 알림 수신
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return container;
+    }
+
+    private static RedisCacheConfiguration redisCacheConfiguration(Duration ttl,
+                                                                   Jackson2JsonRedisSerializer<?> serializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .prefixCacheNameWith(KEY_PREFIX)
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+}
@@ -0,0 +1,110 @@
+package techblog.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 Caffeine 캐시(L1) + Redis 캐시(L2)
+ * 조회는 L1 -> L2 -> 원본 순서로 하고, L2에서 읽은 값은 L1에 채운다
+ * 변경(put/evict/clear)은 L2에 반영한 뒤 다른 인스턴스에 알려서 각 인스턴스의 L1에서도 지우게 한다
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final TwoLevelCacheManager cacheManager;
+
+    TwoLevelCache(String name, Cache<String, Object> local, org.springframework.cache.Cache remote,
+                  TwoLevelCacheManager cacheManager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            local.put(localKey, remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException("캐시 값 타입 불일치 - " + name + ": " + type.getName());
+        }
+        return (T) value.get();
+    }
+
+    /**
+     * L1에 없으면 L2의 값을 쓰고, L2에도 없으면 원본을 읽는다 (같은 키를 동시에 읽어도 인스턴스당 한 번만 원본 조회)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(localKey(key), k -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), value);
+        cacheManager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        cacheManager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 (L2는 이미 반영되어 있으므로 L1만 지운다)
+     */
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    // Redis 캐시처럼 키를 문자열로 통일해서 인스턴스 간 무효화 메시지에 그대로 사용
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,80 @@
+package techblog.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * TwoLevelCache 관리 및 인스턴스 간 L1 무효화 (Redis pub/sub)
+ * 메시지 형식: 보낸 인스턴스 id, 캐시 이름, 키(전체 삭제면 생략)를 줄바꿈으로 구분
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    static final String CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "\n";
+
+    // 자기가 보낸 메시지는 무시하기 위한 인스턴스 id
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private Map<String, TwoLevelCache> caches = Map.of();
+
+    TwoLevelCacheManager(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    void setCaches(Map<String, TwoLevelCache> caches) {
+        this.caches = Map.copyOf(caches);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(instanceId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(instanceId + SEPARATOR + cacheName);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1은 로컬 TTL이 지나면 만료됨
+            log.warn("캐시 무효화 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+}
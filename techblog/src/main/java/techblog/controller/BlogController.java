@@ -8,13 +8,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import techblog.dto.request.BlogSearchRequest;
 import techblog.dto.response.BlogPostResponse;
+import techblog.dto.response.CursorPageResponse;
+import techblog.dto.response.RelatedTagResponse;
 import techblog.dto.response.TrendResponse;
 import techblog.service.BlogService;
+import techblog.service.TagCooccurrenceIndex;
 
 import java.util.List;
 
@@ -59,9 +63,45 @@ public class BlogController {
         return ResponseEntity.ok(blogService.searchPosts(searchRequest, PageRequest.of(page, size)));
     }
 
+    @Operation(summary = "블로그 포스트 중에서 검색 (커서 기반, 무한 스크롤용)")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponse<BlogPostResponse>> searchPostsByCursor(
+            @Parameter(description = "Search keyword")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Company names to filter")
+            @RequestParam(required = false) List<String> companies,
+            @Parameter(description = "Cursor from the previous response (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped at application.search.max-page-size)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        BlogSearchRequest searchRequest = new BlogSearchRequest(
+                keyword,
+                companies,
+                null,  // tags
+                null,  // startDate
+                null,  // endDate
+                0,
+                size
+        );
+
+        return ResponseEntity.ok(blogService.searchPostsByCursor(searchRequest, cursor, size));
+    }
+
     @Operation(summary = "최근 트렌드 키워드 검색")
     @GetMapping("/trends/keywords")
     public ResponseEntity<List<TrendResponse.KeywordTrend>> getTrendingKeywords() {
         return ResponseEntity.ok(blogService.getWeeklyTrends().keywords());
     }
+
+    @Operation(summary = "함께 쓰인 태그 조회")
+    @GetMapping("/tags/{tag}/related")
+    public ResponseEntity<List<RelatedTagResponse>> getRelatedTags(
+            @PathVariable String tag,
+            @Parameter(description = "Number of tags to return")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Scoring: COUNT, JACCARD, PMI")
+            @RequestParam(defaultValue = "JACCARD") TagCooccurrenceIndex.Metric metric) {
+        return ResponseEntity.ok(blogService.getRelatedTags(tag, size, metric));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package techblog.crawler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집에 실패한 게시글을 나중에 개별로 다시 수집하도록 등록
+ */
+public interface ArticleRetryQueue {
+    /**
+     * @param publishDate 목록에 표시된 게시일 (본문 페이지에 날짜가 없는 블로그용, 모르면 null)
+     */
+    void enqueue(String company, String url, LocalDateTime publishDate, String error);
+}
@@ -0,0 +1,24 @@
+package techblog.crawler;
+
+import techblog.domain.BlogPost;
+
+import java.util.List;
+
+/**
+ * 과거 글 수집(BACKFILL)에서 한 페이지를 수집한 결과
+ *
+ * @param posts      이 페이지에서 새로 수집한 게시글
+ * @param nextCursor 다음 페이지 위치 (크롤러마다 형식이 다름), 마지막 페이지면 null
+ */
+public record BackfillPage(List<BlogPost> posts, String nextCursor) {
+    // 페이지 번호 주소 형식에서 페이지 번호 자리
+    public static final String PAGE_PLACEHOLDER = "{page}";
+
+    public boolean isLast() {
+        return nextCursor == null;
+    }
+
+    public static String pageUrl(String template, int page) {
+        return template.replace(PAGE_PLACEHOLDER, String.valueOf(page));
+    }
+}
@@ -2,9 +2,54 @@ package techblog.crawler;
 
 import techblog.domain.BlogPost;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BlogCrawler {
-    List<BlogPost> crawl();
+    /**
+     * 목록/피드 수집, 요청이나 파싱에 실패하면 예외를 던진다 (작업 큐가 실패로 기록하고 재시도)
+     */
+    List<BlogPost> crawl(CrawlMode mode) throws IOException, InterruptedException;
     String getCompanyName();
+
+    default List<BlogPost> crawl() throws IOException, InterruptedException {
+        return crawl(CrawlMode.INCREMENTAL);
+    }
+
+    /**
+     * crawl 결과가 저장까지 끝난 뒤 호출 (다음 실행에서 건너뛸 기준을 이때 저장)
+     */
+    default void onIngested() {
+    }
+
+    /**
+     * 게시글 단위 수집 지원 여부 (지원하지 않는 크롤러에는 ARTICLE 작업을 실행하지 않음)
+     */
+    default boolean supportsArticle() {
+        return false;
+    }
+
+    /**
+     * 게시글 하나만 다시 수집 (실패한 게시글 재시도용)
+     *
+     * @param listedPublishDate 처음 수집할 때 목록에 표시된 게시일 (없으면 null, 본문 페이지에서 찾음)
+     */
+    default BlogPost crawlArticle(String url, LocalDateTime listedPublishDate) throws IOException, InterruptedException {
+        throw new UnsupportedOperationException(getCompanyName() + " 크롤러는 게시글 단위 수집을 지원하지 않습니다");
+    }
+
+    /**
+     * 과거 글 수집(페이지 이동) 지원 여부
+     */
+    default boolean supportsBackfill() {
+        return false;
+    }
+
+    /**
+     * 과거 글 목록의 한 페이지를 수집 (cursor가 null이면 첫 페이지부터, 이미 본 게시글은 제외)
+     */
+    default BackfillPage backfill(String cursor) throws IOException, InterruptedException {
+        throw new UnsupportedOperationException(getCompanyName() + " 크롤러는 과거 글 수집을 지원하지 않습니다");
+    }
 }
@@ -0,0 +1,11 @@
+package techblog.crawler;
+
+/**
+ * 크롤링 방식
+ * INCREMENTAL: 이미 본 게시글은 건너뛰고 새 글만 수집
+ * REFRESH: 목록에 있는 게시글을 모두 다시 수집해서 수정된 글을 찾는다
+ * BACKFILL: 목록/피드의 다음 페이지를 따라가며 과거 게시글을 수집 (체크포인트부터 이어서 진행)
+ */
+public enum CrawlMode {
+    INCREMENTAL, REFRESH, BACKFILL
+}
@@ -0,0 +1,78 @@
+package techblog.crawler;
+
+import techblog.domain.UrlCanonicalizer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 블로그별 증분 크롤링 상태
+ * watermark: 지금까지 본 가장 최근 게시일, knownUrls: 최근에 본 URL 목록
+ */
+public record CrawlState(LocalDateTime watermark, Set<String> knownUrls) {
+    public static final CrawlState EMPTY = new CrawlState(null, Set.of());
+
+    // 워터마크보다 이만큼 이전 게시글은 이미 처리된 것으로 간주 (게시일이 늦게 반영되는 경우 대비)
+    private static final long LOOKBACK_DAYS = 7;
+    // 목록은 최신순이므로 이미 본 글이 연속으로 나오면 이후는 모두 본 글로 판단 (상단 고정글 대비 여유)
+    private static final int STOP_AFTER_KNOWN = 3;
+
+    public boolean isKnown(String url) {
+        return url != null && knownUrls.contains(UrlCanonicalizer.canonicalize(url));
+    }
+
+    public boolean isBeforeWatermark(LocalDateTime publishDate) {
+        return watermark != null && publishDate != null
+                && publishDate.isBefore(watermark.minusDays(LOOKBACK_DAYS));
+    }
+
+    /**
+     * 최신순 목록에서 아직 보지 못한 항목만 골라낸다
+     * 이미 본 항목이 연속으로 나오면 나머지 목록은 확인하지 않고 중단한다
+     */
+    public <T> List<T> selectUnseen(List<T> items,
+                                    Function<T, String> urlExtractor,
+                                    Function<T, LocalDateTime> publishDateExtractor) {
+        List<T> unseen = new ArrayList<>();
+        UnseenFilter filter = newFilter();
+        for (T item : items) {
+            Decision decision = filter.decide(urlExtractor.apply(item), publishDateExtractor.apply(item));
+            if (decision == Decision.STOP) {
+                break;
+            }
+            if (decision == Decision.ACCEPT) {
+                unseen.add(item);
+            }
+        }
+        return unseen;
+    }
+
+    /**
+     * 항목을 하나씩 받는 스트리밍 처리용 필터
+     */
+    public UnseenFilter newFilter() {
+        return new UnseenFilter();
+    }
+
+    public enum Decision {
+        ACCEPT, SKIP, STOP
+    }
+
+    public final class UnseenFilter {
+        private int consecutiveKnown;
+
+        private UnseenFilter() {
+        }
+
+        public Decision decide(String url, LocalDateTime publishDate) {
+            if (isKnown(url)) {
+                return ++consecutiveKnown >= STOP_AFTER_KNOWN ? Decision.STOP : Decision.SKIP;
+            }
+            consecutiveKnown = 0;
+            return isBeforeWatermark(publishDate) ? Decision.SKIP : Decision.ACCEPT;
+        }
+    }
+}
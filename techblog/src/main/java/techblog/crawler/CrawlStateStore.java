@@ -0,0 +1,87 @@
+package techblog.crawler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import techblog.domain.BlogPost;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 블로그별 크롤링 상태를 Redis sorted set(URL -> 게시일)으로 저장
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlStateStore {
+    private static final String KEY_PREFIX = "crawler:state:";
+    // 블로그별로 기억하는 최근 URL 수
+    private static final int MAX_TRACKED_URLS = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CrawlState load(String company) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().rangeWithScores(key(company), 0, -1);
+            if (tuples == null || tuples.isEmpty()) {
+                return CrawlState.EMPTY;
+            }
+
+            Set<String> urls = new HashSet<>();
+            double maxScore = 0;
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                urls.add(tuple.getValue());
+                if (tuple.getScore() != null) {
+                    maxScore = Math.max(maxScore, tuple.getScore());
+                }
+            }
+            return new CrawlState(toDateTime((long) maxScore), urls);
+        } catch (Exception e) {
+            log.warn("{} 크롤링 상태 조회 실패, 전체 크롤링으로 진행: {}", company, e.getMessage());
+            return CrawlState.EMPTY;
+        }
+    }
+
+    /**
+     * 저장까지 끝난 포스트를 본 것으로 기록
+     */
+    public void markSeen(String company, Collection<BlogPost> posts) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = posts.stream()
+                .filter(post -> post.getUrl() != null)
+                .map(post -> ZSetOperations.TypedTuple.of(post.getUrl(), (double) toEpochMilli(post.getPublishDate())))
+                .collect(Collectors.toSet());
+        if (tuples.isEmpty()) {
+            return;
+        }
+
+        String key = key(company);
+        redisTemplate.opsForZSet().add(key, tuples);
+        // 오래된 URL부터 정리해서 최근 MAX_TRACKED_URLS개만 유지
+        redisTemplate.opsForZSet().removeRange(key, 0, -(MAX_TRACKED_URLS + 1));
+    }
+
+    private static String key(String company) {
+        return KEY_PREFIX + company;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return Objects.requireNonNullElseGet(dateTime, LocalDateTime::now)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
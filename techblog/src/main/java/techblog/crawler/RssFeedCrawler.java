@@ -1,94 +1,166 @@
 package techblog.crawler;
 
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
-import com.rometools.rome.io.XmlReader;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import techblog.crawler.feed.FeedEntry;
+import techblog.crawler.feed.StreamingFeedParser;
+import techblog.crawler.fetch.FeedFetcher;
+import techblog.crawler.fetch.FeedResponse;
+import techblog.crawler.fetch.FeedValidators;
+import techblog.crawler.fetch.HttpFetchException;
 import techblog.domain.BlogPost;
 
-import java.net.URL;
-import java.time.ZoneId;
-import java.util.*;
-import java.util.stream.Collectors;
-
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Component
 @Slf4j
 public abstract class RssFeedCrawler implements BlogCrawler {
 
-    private final SyndFeedInput feedInput;
-    private static final int MAX_RETRIES = 1;
+    private final StreamingFeedParser feedParser;
+    private final FeedFetcher feedFetcher;
+    private final CrawlStateStore crawlStateStore;
+    // 파싱한 피드의 ETag/Last-Modified, 저장이 끝난 뒤(onIngested)에 저장해서 저장 실패 시 다음 실행에서 다시 받는다
+    private volatile FeedValidators pendingValidators;
     protected abstract String getFeedUrl();
 
+    /**
+     * 과거 글 수집용 피드 페이지 주소 형식 (예: WordPress https://blog.example.com/feed/?paged={page})
+     * 피드는 보통 최근 10~20개만 제공하므로, 페이지를 지원하는 피드만 과거 글을 수집할 수 있다
+     */
+    protected String getFeedPageUrlTemplate() {
+        return null;
+    }
+
     @Autowired  // 생성자 주입을 위한 어노테이션 추가
-    protected RssFeedCrawler(SyndFeedInput feedInput) {
-        this.feedInput = feedInput;
+    protected RssFeedCrawler(StreamingFeedParser feedParser, FeedFetcher feedFetcher, CrawlStateStore crawlStateStore) {
+        this.feedParser = feedParser;
+        this.feedFetcher = feedFetcher;
+        this.crawlStateStore = crawlStateStore;
     }
 
+    /**
+     * 피드 수집, 요청/파싱 실패는 그대로 던져서 작업 큐의 재시도 대상이 되도록 한다
+     */
     @Override
-    public List<BlogPost> crawl() {
-        try {
-            URL feedUrl = new URL(getFeedUrl());
-            List<BlogPost> posts = new ArrayList<>();
-
-            for (int i = 0; i < MAX_RETRIES; i++) {
-                try (XmlReader reader = new XmlReader(feedUrl)) {
-                    SyndFeed feed = feedInput.build(reader);
-                    log.info("{} - 총 게시글 수: {}", getCompanyName(), feed.getEntries().size());
-
-                    posts = feed.getEntries().stream()
-                            .map(this::convertToPost)
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toList());
-
-                    break;  // 성공하면 루프 종료
-                } catch (Exception e) {
-                    if (i == MAX_RETRIES - 1) {
-                        throw e;  // 마지막 시도에서 실패하면 예외 던짐
+    public List<BlogPost> crawl(CrawlMode mode) throws IOException, InterruptedException {
+        String feedUrl = getFeedUrl();
+        List<BlogPost> posts = new ArrayList<>();
+        pendingValidators = null;
+
+        // 일시적인 오류(429/5xx, 네트워크 오류)의 재시도와 요청 간격은 FeedFetcher가 호스트 단위로 처리
+        try (FeedResponse response = feedFetcher.fetch(feedUrl)) {
+            if (response.notModified()) {
+                log.info("{} - 피드 변경 없음, 크롤링 생략", getCompanyName());
+                return Collections.emptyList();
+            }
+
+            // 피드를 항목 단위로 읽으면서 새 글만 변환하고, 이미 본 글이 연속으로 나오면 나머지는 읽지 않음
+            // 재수집은 피드가 바뀐 경우 모든 항목을 변환 (변경 여부는 내용 지문으로 판단)
+            CrawlState state = mode == CrawlMode.REFRESH ? CrawlState.EMPTY : crawlStateStore.load(getCompanyName());
+            CrawlState.UnseenFilter filter = state.newFilter();
+            int read = feedParser.parse(response.body(), entry -> {
+                CrawlState.Decision decision = filter.decide(entry.link(), entry.publishDate());
+                if (decision == CrawlState.Decision.ACCEPT) {
+                    BlogPost post = convertToPost(entry);
+                    if (post != null) {
+                        posts.add(post);
                     }
-                    log.warn("{}번째 시도 실패, 재시도 중...", i + 1);
-                    Thread.sleep(1000);  // 1초 대기 후 재시도
                 }
-            }
+                return decision != CrawlState.Decision.STOP;
+            });
+            log.info("{} - 읽은 게시글 수: {}, 새 게시글 수: {}", getCompanyName(), read, posts.size());
+
+            pendingValidators = response.validators();
+        } catch (XMLStreamException e) {
+            throw new IOException("피드 파싱 실패: " + e.getMessage(), e);
+        }
+
+        return posts;
+    }
 
-            log.info("{} - 변환된 게시글 수: {}", getCompanyName(), posts.size());
-            return posts;
+    @Override
+    public void onIngested() {
+        FeedValidators validators = pendingValidators;
+        if (validators == null) {
+            return;
+        }
+        pendingValidators = null;
+        try {
+            feedFetcher.saveValidators(getFeedUrl(), validators);
         } catch (Exception e) {
-            log.error("크롤링 중 오류 발생 - {}: {}", getCompanyName(), e.getMessage(), e);
-            return Collections.emptyList();
+            log.warn("{} - 피드 검증자 저장 실패: {}", getCompanyName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean supportsBackfill() {
+        return getFeedPageUrlTemplate() != null;
+    }
+
+    /**
+     * 피드의 한 페이지 수집 (cursor는 페이지 번호), 항목이 없거나 404면 마지막 페이지
+     */
+    @Override
+    public BackfillPage backfill(String cursor) throws IOException, InterruptedException {
+        if (!supportsBackfill()) {
+            return BlogCrawler.super.backfill(cursor);
+        }
+
+        int page = cursor != null ? Integer.parseInt(cursor) : 1;
+        CrawlState state = crawlStateStore.load(getCompanyName());
+        List<BlogPost> posts = new ArrayList<>();
+        int read;
+        // 페이지 주소에는 조건부 요청 값을 저장하지 않으므로 보통 전체 응답을 받음 (첫 페이지가 피드 주소와 같으면 304일 수 있음)
+        try (FeedResponse response = feedFetcher.fetch(BackfillPage.pageUrl(getFeedPageUrlTemplate(), page))) {
+            if (response.notModified()) {
+                return new BackfillPage(List.of(), String.valueOf(page + 1));
+            }
+            read = feedParser.parse(response.body(), entry -> {
+                if (entry.link() != null && !state.isKnown(entry.link())) {
+                    BlogPost post = convertToPost(entry);
+                    if (post != null) {
+                        posts.add(post);
+                    }
+                }
+                return true;
+            });
+        } catch (HttpFetchException e) {
+            if (e.getStatus() == 404) {
+                return new BackfillPage(List.of(), null);
+            }
+            throw e;
+        } catch (XMLStreamException e) {
+            throw new IOException("피드 파싱 실패: " + e.getMessage(), e);
         }
+        log.info("{} - 과거 글 {}페이지: 읽은 게시글 수 {}, 새 게시글 수 {}", getCompanyName(), page, read, posts.size());
+        return new BackfillPage(posts, read == 0 ? null : String.valueOf(page + 1));
     }
 
-    protected BlogPost convertToPost(SyndEntry entry) {
+    protected BlogPost convertToPost(FeedEntry entry) {
         try {
-            // HTML에서 태그 추출
-            Set<String> tags = extractTags(entry.getDescription().getValue());
+            String content = entry.content() != null ? entry.content() : "";
 
             return BlogPost.builder()
-                    .title(entry.getTitle())
-                    .content(entry.getDescription().getValue())
+                    .title(entry.title())
+                    .content(content)
                     .company(getCompanyName())
-                    .url(entry.getLink())
-                    .publishDate(entry.getPublishedDate().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDateTime())
-                    .tags(tags)
+                    .url(entry.link())
+                    .publishDate(entry.publishDate())
+                    .tags(extractTags(content))
                     .build();
         } catch (Exception e) {
-            log.error("포스트 변환 중 오류 발생: {}", entry.getTitle(), e);
+            log.error("포스트 변환 중 오류 발생: {}", entry.title(), e);
             return null;
         }
     }
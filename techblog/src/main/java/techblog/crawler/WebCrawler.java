@@ -5,66 +5,376 @@ import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import techblog.crawler.browser.BrowserSessionPool;
+import techblog.crawler.fetch.FetchResponse;
+import techblog.crawler.fetch.HttpFetcher;
+import techblog.crawler.fetch.PolitenessScheduler;
 import techblog.domain.BlogPost;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public abstract class WebCrawler implements BlogCrawler {
+    private static final Duration RENDER_TIMEOUT = Duration.ofSeconds(10);
+    // 무한 스크롤에서 스크롤 한 번 후 새 항목을 기다리는 시간과, 새 항목 없이 허용하는 스크롤 횟수
+    private static final Duration SCROLL_TIMEOUT = Duration.ofSeconds(5);
+    private static final int MAX_IDLE_SCROLLS = 2;
+    // 본문 페이지의 표준 게시일 메타데이터 (크롤러별 날짜 위치가 없을 때 사용)
+    private static final String PUBLISH_DATE_META = "meta[property=article:published_time], "
+            + "meta[itemprop=datePublished], time[datetime]";
+
+    protected final CrawlStateStore crawlStateStore;
+    private final BrowserSessionPool browserSessionPool;
+    private final HttpFetcher httpFetcher;
+    private final PolitenessScheduler politenessScheduler;
+    @Qualifier("articleExecutor")
+    private final ExecutorService articleExecutor;
+    private final ArticleRetryQueue articleRetryQueue;
+
+    /**
+     * 페이지 렌더링 방식
+     * STATIC: 목록/본문 모두 HTTP + Jsoup
+     * BROWSER: 목록/본문 모두 헤드리스 브라우저
+     * HYBRID: 목록만 브라우저로 렌더링하고 본문은 HTTP + Jsoup, 본문이 비어 있으면 브라우저로 재시도
+     */
+    public enum RenderingMode {
+        STATIC, BROWSER, HYBRID
+    }
+
     protected abstract String getBaseUrl();
     protected abstract String getListSelector();
     protected abstract String getTitleSelector();
     protected abstract String getContentSelector();
     protected abstract String getTagSelector();
 
+    protected RenderingMode getRenderingMode() {
+        return RenderingMode.STATIC;
+    }
+
+    /**
+     * 과거 글 수집용 페이지 번호 주소 형식 (예: https://blog.example.com/?page={page}), 없으면 null
+     */
+    protected String getPageUrlTemplate() {
+        return null;
+    }
+
+    /**
+     * 과거 글 수집용 다음 페이지 링크 선택자 (예: a.next), 없으면 null
+     */
+    protected String getNextPageSelector() {
+        return null;
+    }
+
+    /**
+     * 목록 수집, 목록 요청/렌더링 실패는 그대로 던진다 (게시글 하나의 실패는 게시글 재시도 작업으로 등록)
+     */
     @Override
-    public List<BlogPost> crawl() {
+    public List<BlogPost> crawl(CrawlMode mode) throws IOException, InterruptedException {
+        Document doc = fetchList(getBaseUrl());
+
+        // 이미 본 게시글의 상세 페이지는 요청하지 않음 (재수집은 목록의 모든 게시글 요청)
+        CrawlState state = mode == CrawlMode.REFRESH ? CrawlState.EMPTY : crawlStateStore.load(getCompanyName());
+        List<Element> items = state.selectUnseen(doc.select(getListSelector()),
+                this::extractPostUrl, this::extractListedPublishDate);
+        log.info("{} - 새 게시글 후보: {}", getCompanyName(), items.size());
+        return crawlPosts(items);
+    }
+
+    /**
+     * 페이지 번호 주소, 다음 페이지 링크, 무한 스크롤(브라우저 렌더링) 중 하나로 목록을 넘길 수 있으면 지원
+     */
+    @Override
+    public boolean supportsBackfill() {
+        return getPageUrlTemplate() != null || getNextPageSelector() != null
+                || getRenderingMode() != RenderingMode.STATIC;
+    }
+
+    /**
+     * 과거 글 목록 한 페이지 수집
+     * cursor는 페이지 번호 주소면 페이지 번호, 다음 페이지 링크면 페이지 주소, 무한 스크롤이면 이미 처리한 항목 수
+     */
+    @Override
+    public BackfillPage backfill(String cursor) throws IOException, InterruptedException {
+        if (!supportsBackfill()) {
+            return BlogCrawler.super.backfill(cursor);
+        }
+
+        CrawlState state = crawlStateStore.load(getCompanyName());
+        if (getPageUrlTemplate() != null) {
+            int page = cursor != null ? Integer.parseInt(cursor) : 1;
+            List<Element> items = fetchList(BackfillPage.pageUrl(getPageUrlTemplate(), page)).select(getListSelector());
+            return new BackfillPage(crawlPosts(unseen(state, items)), items.isEmpty() ? null : String.valueOf(page + 1));
+        }
+
+        if (getNextPageSelector() != null) {
+            String url = cursor != null ? cursor : getBaseUrl();
+            Document doc = fetchList(url);
+            Element next = doc.selectFirst(getNextPageSelector());
+            String nextUrl = next != null ? next.attr("abs:href") : "";
+            List<Element> items = doc.select(getListSelector());
+            return new BackfillPage(crawlPosts(unseen(state, items)),
+                    nextUrl.isEmpty() || nextUrl.equals(url) || items.isEmpty() ? null : nextUrl);
+        }
+
+        int offset = cursor != null ? Integer.parseInt(cursor) : 0;
+        List<Element> items = renderScrolled(getBaseUrl(), offset);
+        List<Element> page = items.subList(Math.min(offset, items.size()), items.size());
+        return new BackfillPage(crawlPosts(unseen(state, page)), page.isEmpty() ? null : String.valueOf(items.size()));
+    }
+
+    private List<Element> unseen(CrawlState state, List<Element> items) {
+        return items.stream()
+                .filter(item -> {
+                    String url = extractPostUrl(item);
+                    return url != null && !state.isKnown(url);
+                })
+                .toList();
+    }
+
+    /**
+     * 상세 페이지는 병렬로 수집
+     * 크롤러 제한 시간 초과로 이 스레드가 인터럽트되면 남은 상세 페이지 작업도 인터럽트해서 취소한다
+     */
+    private List<BlogPost> crawlPosts(List<Element> items) throws InterruptedException {
+        List<Future<BlogPost>> futures = items.stream()
+                .map(item -> articleExecutor.submit(() -> crawlPost(item)))
+                .toList();
+        List<BlogPost> posts = new ArrayList<>(futures.size());
         try {
-            Document doc = Jsoup.connect(getBaseUrl())
-                    .userAgent("Mozilla/5.0")
-                    .get();
-
-            return doc.select(getListSelector()).stream()
-                    .map(this::crawlPost)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("크롤링 중 오류 발생 - {}: {}", getCompanyName(), e.getMessage(), e);
-            return Collections.emptyList();
+            for (Future<BlogPost> future : futures) {
+                try {
+                    BlogPost post = future.get();
+                    if (post != null) {
+                        posts.add(post);
+                    }
+                } catch (ExecutionException e) {
+                    log.error("포스트 크롤링 중 오류 발생 - {}: {}", getCompanyName(), e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
         }
+        return posts;
+    }
+
+    private Document fetchList(String url) throws IOException, InterruptedException {
+        return getRenderingMode() == RenderingMode.STATIC ? fetchStatic(url) : render(url, getListSelector());
     }
 
     protected BlogPost crawlPost(Element element) {
+        String url = extractPostUrl(element);
         try {
-            String url = element.select("a").first().attr("abs:href");
-            Document postDoc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0")
-                    .get();
-
-            return BlogPost.builder()
-                    .title(postDoc.select(getTitleSelector()).text())
-                    .content(postDoc.select(getContentSelector()).text())
-                    .company(getCompanyName())
-                    .url(url)
-                    .publishDate(extractPublishDate(postDoc))
-                    .tags(extractTags(postDoc))
-                    .build();
+            Document postDoc = fetchArticle(url);
+            BlogPost post = buildPost(element, url, postDoc, extractPublishDate(element, postDoc));
+            log.debug("포스트 크롤링 완료: {}", post.getTitle());
+            return post;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 제한 시간 초과로 취소된 수집 (브라우저/네트워크 오류로 감싸진 인터럽트), 실패한 게시글이 아님
+                return null;
+            }
             log.error("포스트 크롤링 중 오류 발생: {}", element.text(), e);
+            // 목록 전체를 다시 수집하지 않도록 실패한 게시글만 재시도 작업으로 등록
+            articleRetryQueue.enqueue(getCompanyName(), url, listedPublishDateOrNull(element), e.getMessage());
             return null;
         }
     }
 
+    /**
+     * 상세 페이지를 따로 수집하므로 실패한 게시글만 다시 수집할 수 있다
+     */
+    @Override
+    public boolean supportsArticle() {
+        return true;
+    }
+
+    /**
+     * 목록 항목 없이 게시글 하나만 수집 (제목은 본문 페이지 값, 게시일은 처음 수집할 때 목록에서 본 값을 우선 사용)
+     */
+    @Override
+    public BlogPost crawlArticle(String url, LocalDateTime listedPublishDate) throws IOException, InterruptedException {
+        Document postDoc = fetchArticle(url);
+        return buildPost(new Element("div"), url, postDoc,
+                listedPublishDate != null ? listedPublishDate : pagePublishDate(postDoc));
+    }
+
+    private BlogPost buildPost(Element element, String url, Document postDoc, LocalDateTime publishDate) {
+        return BlogPost.builder()
+                .title(extractTitle(element, postDoc))
+                .content(extractContent(postDoc))
+                .company(getCompanyName())
+                .url(url)
+                .publishDate(publishDate)
+                .tags(extractTags(postDoc))
+                .build();
+    }
+
+    /**
+     * 렌더링 방식에 따라 본문 페이지를 가져온다
+     */
+    protected Document fetchArticle(String url) throws IOException, InterruptedException {
+        return switch (getRenderingMode()) {
+            case STATIC -> fetchStatic(url);
+            case BROWSER -> render(url, getContentSelector());
+            case HYBRID -> {
+                Document doc = null;
+                try {
+                    doc = fetchStatic(url);
+                } catch (IOException e) {
+                    log.debug("정적 수집 실패, 브라우저로 재시도 - {}: {}", url, e.getMessage());
+                }
+                if (doc == null || extractContent(doc).isBlank()) {
+                    log.info("정적 수집 결과 본문 없음, 브라우저로 렌더링: {}", url);
+                    doc = render(url, getContentSelector());
+                }
+                yield doc;
+            }
+        };
+    }
+
+    /**
+     * 공용 HttpFetcher로 페이지를 받아 Jsoup으로 파싱
+     */
+    protected Document fetchStatic(String url) throws IOException, InterruptedException {
+        try (FetchResponse response = httpFetcher.fetch(url)) {
+            return Jsoup.parse(response.body(), response.charset(), url);
+        }
+    }
+
+    /**
+     * 헤드리스 브라우저로 페이지를 렌더링하고 결과 HTML을 Jsoup 문서로 변환
+     */
+    protected Document render(String url, String waitSelector) throws IOException, InterruptedException {
+        return politenessScheduler.execute(url, () -> browserSessionPool.execute(session -> {
+            WebDriver driver = session.open(url);
+            new WebDriverWait(driver, RENDER_TIMEOUT)
+                    .until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(waitSelector)));
+            return Jsoup.parse(driver.getPageSource(), url);
+        }));
+    }
+
+    /**
+     * 목록 항목이 minItems개를 넘을 때까지 페이지 끝으로 스크롤 (새 항목이 더 나오지 않으면 중단)
+     */
+    protected List<Element> renderScrolled(String url, int minItems) throws IOException, InterruptedException {
+        By listItems = By.cssSelector(getListSelector());
+        return politenessScheduler.execute(url, () -> browserSessionPool.execute(session -> {
+            WebDriver driver = session.open(url);
+            new WebDriverWait(driver, RENDER_TIMEOUT).until(ExpectedConditions.presenceOfElementLocated(listItems));
+
+            int count = driver.findElements(listItems).size();
+            int idleScrolls = 0;
+            while (count <= minItems && idleScrolls < MAX_IDLE_SCROLLS) {
+                int before = count;
+                ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight)");
+                try {
+                    new WebDriverWait(driver, SCROLL_TIMEOUT).until(d -> d.findElements(listItems).size() > before);
+                    idleScrolls = 0;
+                } catch (TimeoutException e) {
+                    idleScrolls++;
+                }
+                count = driver.findElements(listItems).size();
+            }
+            return Jsoup.parse(driver.getPageSource(), url).select(getListSelector());
+        }));
+    }
+
+    protected String extractPostUrl(Element element) {
+        Element link = element.selectFirst("a");
+        return link != null ? link.attr("abs:href") : null;
+    }
+
+    protected String extractTitle(Element element, Document doc) {
+        return doc.select(getTitleSelector()).text();
+    }
+
+    protected String extractContent(Document doc) {
+        return doc.select(getContentSelector()).text();
+    }
+
+    /**
+     * 목록 항목에 표시된 게시일 (목록에 날짜가 없으면 null)
+     */
+    protected LocalDateTime extractListedPublishDate(Element element) {
+        return null;
+    }
+
+    protected LocalDateTime extractPublishDate(Element element, Document doc) {
+        LocalDateTime listed = extractListedPublishDate(element);
+        return listed != null ? listed : pagePublishDate(doc);
+    }
+
     protected abstract LocalDateTime extractPublishDate(Document doc);
 
+    /**
+     * 본문 페이지의 게시일, 크롤러별 위치에 없으면 표준 메타데이터(article:published_time, datePublished, time 태그)에서 찾는다
+     */
+    private LocalDateTime pagePublishDate(Document doc) {
+        LocalDateTime date = extractPublishDate(doc);
+        if (date != null) {
+            return date;
+        }
+        for (Element meta : doc.select(PUBLISH_DATE_META)) {
+            String value = meta.hasAttr("content") ? meta.attr("content") : meta.attr("datetime");
+            date = parseMetaDate(value.trim());
+            if (date != null) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseMetaDate(String value) {
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDate.parse(value).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private LocalDateTime listedPublishDateOrNull(Element element) {
+        try {
+            return extractListedPublishDate(element);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     protected Set<String> extractTags(Document doc) {
         return doc.select(getTagSelector())
                 .stream()
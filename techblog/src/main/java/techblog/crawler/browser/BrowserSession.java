@@ -0,0 +1,51 @@
+package techblog.crawler.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * 풀에서 빌려 쓰는 헤드리스 브라우저 세션
+ */
+@Slf4j
+public class BrowserSession {
+    private final WebDriver driver;
+    private int pagesServed;
+
+    BrowserSession(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * 페이지 이동 (세션 재활용 기준이 되는 페이지 수를 함께 기록)
+     */
+    public WebDriver open(String url) {
+        pagesServed++;
+        driver.get(url);
+        return driver;
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    int pagesServed() {
+        return pagesServed;
+    }
+
+    boolean isHealthy() {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    void quit() {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("브라우저 세션 종료 중 오류: {}", e.getMessage());
+        }
+    }
+}
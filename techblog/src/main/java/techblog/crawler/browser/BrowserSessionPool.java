@@ -0,0 +1,119 @@
+package techblog.crawler.browser;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Selenium 크롤러용 헤드리스 브라우저 세션 풀
+ * 세션은 처음 필요할 때 생성하며(애플리케이션 시작 시 Chrome을 띄우지 않음),
+ * 일정 페이지 수를 넘기거나 비정상 상태가 되면 폐기하고 새로 만든다
+ */
+@Component
+@Slf4j
+public class BrowserSessionPool {
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(10);
+
+    private final int maxPagesPerSession;
+    private final Duration borrowTimeout;
+    private final Semaphore permits;
+    private final Deque<BrowserSession> idleSessions = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    public BrowserSessionPool(
+            @Value("${application.crawler.browser.max-sessions:2}") int maxSessions,
+            @Value("${application.crawler.browser.max-pages-per-session:50}") int maxPagesPerSession,
+            @Value("${application.crawler.browser.borrow-timeout:2m}") Duration borrowTimeout) {
+        this.maxPagesPerSession = maxPagesPerSession;
+        this.borrowTimeout = borrowTimeout;
+        this.permits = new Semaphore(maxSessions, true);
+    }
+
+    /**
+     * 세션을 빌려서 작업을 실행하고 반납
+     * 작업 중 브라우저 오류가 나면 해당 세션은 폐기한다
+     * 세션을 기다리는 중 인터럽트되면 InterruptedException을 그대로 던진다 (작업 취소를 실패로 오인하지 않도록)
+     */
+    public <T> T execute(Function<BrowserSession, T> work) throws InterruptedException {
+        BrowserSession session = borrow();
+        try {
+            T result = work.apply(session);
+            release(session);
+            return result;
+        } catch (WebDriverException e) {
+            invalidate(session);
+            throw e;
+        } catch (RuntimeException e) {
+            release(session);
+            throw e;
+        }
+    }
+
+    public BrowserSession borrow() throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("브라우저 세션 풀이 종료되었습니다.");
+        }
+        if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("브라우저 세션 대기 시간 초과 (" + borrowTimeout.toSeconds() + "초)");
+        }
+
+        try {
+            BrowserSession session;
+            while ((session = idleSessions.pollFirst()) != null) {
+                if (session.isHealthy()) {
+                    return session;
+                }
+                log.info("비정상 브라우저 세션 폐기");
+                session.quit();
+            }
+            return createSession();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(BrowserSession session) {
+        if (closed || session.pagesServed() >= maxPagesPerSession) {
+            session.quit();
+        } else {
+            idleSessions.offerFirst(session);
+        }
+        permits.release();
+    }
+
+    public void invalidate(BrowserSession session) {
+        log.warn("브라우저 세션 오류로 폐기 - 처리한 페이지 수: {}", session.pagesServed());
+        session.quit();
+        permits.release();
+    }
+
+    private BrowserSession createSession() {
+        log.info("새 브라우저 세션 시작");
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+        ChromeDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        return new BrowserSession(driver);
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        BrowserSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            session.quit();
+        }
+    }
+}
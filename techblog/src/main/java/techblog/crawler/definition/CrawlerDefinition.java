@@ -0,0 +1,82 @@
+package techblog.crawler.definition;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import techblog.crawler.WebCrawler;
+
+/**
+ * 설정 파일에 선언한 크롤러 정의 (블로그 하나당 항목 하나)
+ * RSS는 feedUrl만, WEB은 목록 주소와 선택자를 지정한다
+ *
+ * @param company           블로그 이름 (게시글의 회사명, 크롤러 식별자)
+ * @param type              RSS 또는 WEB
+ * @param feedUrl           RSS/Atom 피드 주소 (RSS)
+ * @param baseUrl           게시글 목록 페이지 주소 (WEB)
+ * @param listSelector      목록에서 게시글 항목 선택자 (WEB)
+ * @param titleSelector     본문 페이지의 제목 선택자 (WEB)
+ * @param contentSelector   본문 페이지의 내용 선택자 (WEB)
+ * @param tagSelector       본문 페이지의 태그 선택자, 없으면 태그 없음 (WEB)
+ * @param listTitleSelector 목록 항목의 제목 선택자, 있으면 본문 제목보다 우선 (WEB)
+ * @param listDateSelector  목록 항목의 게시일 선택자 (WEB)
+ * @param dateSelector      본문 페이지의 게시일 선택자 (WEB)
+ * @param dateFormat        게시일 형식 (DateTimeFormatter 패턴), 없으면 datetime 속성이나 ISO 형식
+ * @param dateLocale        게시일 형식의 언어 (예: en, ko)
+ * @param pageUrlTemplate   과거 글 수집용 페이지 주소 형식, {page} 자리에 페이지 번호 (RSS: 피드 페이지, WEB: 목록 페이지)
+ * @param nextPageSelector  과거 글 수집용 다음 페이지 링크 선택자 (WEB)
+ * @param renderingMode     페이지 렌더링 방식 (WEB)
+ * @param requestsPerSecond 이 블로그 호스트의 초당 요청 수, 없으면 기본값
+ * @param enabled           false면 크롤러를 만들지 않음
+ */
+public record CrawlerDefinition(
+        String company,
+        Type type,
+        String feedUrl,
+        String baseUrl,
+        String listSelector,
+        String titleSelector,
+        String contentSelector,
+        String tagSelector,
+        String listTitleSelector,
+        String listDateSelector,
+        String dateSelector,
+        String dateFormat,
+        @DefaultValue("en") String dateLocale,
+        String pageUrlTemplate,
+        String nextPageSelector,
+        @DefaultValue("STATIC") WebCrawler.RenderingMode renderingMode,
+        Double requestsPerSecond,
+        @DefaultValue("true") boolean enabled
+) {
+    public enum Type {
+        RSS, WEB
+    }
+
+    /**
+     * 크롤러를 만들 수 없는 정의면 사유를 반환 (정상이면 null)
+     */
+    public String validate() {
+        if (isBlank(company)) {
+            return "company 누락";
+        }
+        if (type == null) {
+            return "type 누락";
+        }
+        if (type == Type.RSS) {
+            return isBlank(feedUrl) ? "feedUrl 누락" : null;
+        }
+        if (isBlank(baseUrl) || isBlank(listSelector) || isBlank(titleSelector) || isBlank(contentSelector)) {
+            return "baseUrl/listSelector/titleSelector/contentSelector 누락";
+        }
+        return null;
+    }
+
+    /**
+     * 요청 제한을 적용할 대표 주소
+     */
+    public String siteUrl() {
+        return type == Type.RSS ? feedUrl : baseUrl;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,184 @@
+package techblog.crawler.definition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import techblog.crawler.ArticleRetryQueue;
+import techblog.crawler.BlogCrawler;
+import techblog.crawler.CrawlStateStore;
+import techblog.crawler.browser.BrowserSessionPool;
+import techblog.crawler.feed.StreamingFeedParser;
+import techblog.crawler.fetch.FeedFetcher;
+import techblog.crawler.fetch.HttpFetcher;
+import techblog.crawler.fetch.PolitenessScheduler;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 실행할 크롤러 목록
+ * 코드로 만든 크롤러 빈과, 크롤러 정의 파일(YAML)로 만든 범용 크롤러를 합쳐서 제공한다
+ * 정의 파일은 주기적으로 변경 여부를 확인해서 재시작 없이 다시 읽는다 (같은 이름이면 코드 크롤러 우선)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlerRegistry {
+    private static final String DEFINITIONS_KEY = "crawlers";
+
+    private final List<BlogCrawler> codeCrawlers;
+    private final ResourceLoader resourceLoader;
+    private final StreamingFeedParser feedParser;
+    private final FeedFetcher feedFetcher;
+    private final CrawlStateStore crawlStateStore;
+    private final BrowserSessionPool browserSessionPool;
+    private final HttpFetcher httpFetcher;
+    private final PolitenessScheduler politenessScheduler;
+    @Qualifier("articleExecutor")
+    private final ExecutorService articleExecutor;
+    private final ArticleRetryQueue articleRetryQueue;
+
+    @Value("${application.crawler.definitions.location:classpath:crawlers.yml}")
+    private String location;
+
+    private volatile List<BlogCrawler> crawlers = List.of();
+    // 정의별로 만든 크롤러 (정의가 바뀌지 않은 크롤러는 다시 읽어도 그대로 사용)
+    private Map<CrawlerDefinition, BlogCrawler> definedCrawlers = Map.of();
+    private long lastModified = -1;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 정의 파일이 바뀌었으면 다시 읽기
+     */
+    @Scheduled(fixedDelayString = "${application.crawler.definitions.reload-interval:PT1M}",
+            initialDelayString = "${application.crawler.definitions.reload-interval:PT1M}")
+    public synchronized void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(location);
+        long modified = lastModifiedOf(resource);
+        if (modified != lastModified) {
+            reload();
+        }
+    }
+
+    /**
+     * 정의 파일을 읽어서 크롤러 목록 교체 (잘못된 정의는 건너뛰고, 파일을 읽지 못하면 기존 목록 유지)
+     */
+    public synchronized void reload() {
+        Resource resource = resourceLoader.getResource(location);
+        List<CrawlerDefinition> definitions;
+        try {
+            definitions = load(resource);
+        } catch (Exception e) {
+            log.error("크롤러 정의를 읽지 못함, 기존 목록 유지 - {}: {}", location, e.getMessage());
+            return;
+        }
+        lastModified = lastModifiedOf(resource);
+
+        Map<String, BlogCrawler> byCompany = new LinkedHashMap<>();
+        codeCrawlers.forEach(crawler -> byCompany.put(crawler.getCompanyName(), crawler));
+
+        Map<CrawlerDefinition, BlogCrawler> created = new HashMap<>();
+        for (CrawlerDefinition definition : definitions) {
+            String invalid = definition.validate();
+            if (invalid != null) {
+                log.warn("잘못된 크롤러 정의 건너뜀 - {}: {}", definition.company(), invalid);
+                continue;
+            }
+            if (!definition.enabled()) {
+                continue;
+            }
+            if (byCompany.containsKey(definition.company())) {
+                log.warn("이미 등록된 블로그의 정의 건너뜀: {}", definition.company());
+                continue;
+            }
+            try {
+                BlogCrawler crawler = definedCrawlers.containsKey(definition)
+                        ? definedCrawlers.get(definition)
+                        : create(definition);
+                byCompany.put(definition.company(), crawler);
+                created.put(definition, crawler);
+            } catch (RuntimeException e) {
+                log.warn("크롤러 생성 실패 - {}: {}", definition.company(), e.getMessage());
+            }
+        }
+
+        applyRateLimits(created.keySet());
+        definedCrawlers = created;
+        crawlers = List.copyOf(byCompany.values());
+        log.info("크롤러 목록 갱신 - 전체 {}개 (정의 파일 {}개)", crawlers.size(), created.size());
+    }
+
+    public List<BlogCrawler> getCrawlers() {
+        return crawlers;
+    }
+
+    public Optional<BlogCrawler> find(String company) {
+        return crawlers.stream()
+                .filter(crawler -> crawler.getCompanyName().equals(company))
+                .findFirst();
+    }
+
+    private List<CrawlerDefinition> load(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            log.info("크롤러 정의 파일 없음: {}", location);
+            return Collections.emptyList();
+        }
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(location, resource);
+        Binder binder = new Binder(ConfigurationPropertySources.from(sources));
+        return binder.bind(DEFINITIONS_KEY, Bindable.listOf(CrawlerDefinition.class))
+                .orElse(Collections.emptyList());
+    }
+
+    private BlogCrawler create(CrawlerDefinition definition) {
+        return switch (definition.type()) {
+            case RSS -> new GenericRssCrawler(definition, feedParser, feedFetcher, crawlStateStore);
+            case WEB -> new GenericWebCrawler(definition, crawlStateStore, browserSessionPool, httpFetcher,
+                    politenessScheduler, articleExecutor, articleRetryQueue);
+        };
+    }
+
+    /**
+     * 정의에 지정한 요청 제한을 호스트에 적용하고, 빠진 정의의 제한은 기본값으로 되돌림
+     */
+    private void applyRateLimits(Iterable<CrawlerDefinition> current) {
+        definedCrawlers.keySet().forEach(definition -> {
+            if (definition.requestsPerSecond() != null) {
+                politenessScheduler.setHostRate(definition.siteUrl(), null);
+            }
+        });
+        current.forEach(definition -> {
+            if (definition.requestsPerSecond() != null) {
+                politenessScheduler.setHostRate(definition.siteUrl(), definition.requestsPerSecond());
+            }
+        });
+    }
+
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.exists() ? resource.lastModified() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package techblog.crawler.definition;
+
+import techblog.crawler.CrawlStateStore;
+import techblog.crawler.RssFeedCrawler;
+import techblog.crawler.feed.StreamingFeedParser;
+import techblog.crawler.fetch.FeedFetcher;
+
+/**
+ * 크롤러 정의로 만드는 RSS 크롤러 (빈으로 등록하지 않고 CrawlerRegistry가 생성)
+ */
+public class GenericRssCrawler extends RssFeedCrawler {
+    private final CrawlerDefinition definition;
+
+    public GenericRssCrawler(CrawlerDefinition definition,
+                             StreamingFeedParser feedParser,
+                             FeedFetcher feedFetcher,
+                             CrawlStateStore crawlStateStore) {
+        super(feedParser, feedFetcher, crawlStateStore);
+        this.definition = definition;
+    }
+
+    @Override
+    protected String getFeedUrl() {
+        return definition.feedUrl();
+    }
+
+    @Override
+    protected String getFeedPageUrlTemplate() {
+        return definition.pageUrlTemplate();
+    }
+
+    @Override
+    public String getCompanyName() {
+        return definition.company();
+    }
+}
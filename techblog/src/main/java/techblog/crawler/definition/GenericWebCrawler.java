@@ -0,0 +1,147 @@
+package techblog.crawler.definition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import techblog.crawler.ArticleRetryQueue;
+import techblog.crawler.CrawlStateStore;
+import techblog.crawler.WebCrawler;
+import techblog.crawler.browser.BrowserSessionPool;
+import techblog.crawler.fetch.HttpFetcher;
+import techblog.crawler.fetch.PolitenessScheduler;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 크롤러 정의의 선택자로 동작하는 웹 크롤러 (빈으로 등록하지 않고 CrawlerRegistry가 생성)
+ */
+@Slf4j
+public class GenericWebCrawler extends WebCrawler {
+    private final CrawlerDefinition definition;
+    private final DateTimeFormatter dateFormatter;
+
+    public GenericWebCrawler(CrawlerDefinition definition,
+                             CrawlStateStore crawlStateStore,
+                             BrowserSessionPool browserSessionPool,
+                             HttpFetcher httpFetcher,
+                             PolitenessScheduler politenessScheduler,
+                             ExecutorService articleExecutor,
+                             ArticleRetryQueue articleRetryQueue) {
+        super(crawlStateStore, browserSessionPool, httpFetcher, politenessScheduler, articleExecutor,
+                articleRetryQueue);
+        this.definition = definition;
+        this.dateFormatter = definition.dateFormat() == null ? null : new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendPattern(definition.dateFormat())
+                // 날짜만 있는 형식은 자정으로
+                .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+                .toFormatter(Locale.forLanguageTag(definition.dateLocale()));
+    }
+
+    @Override
+    public String getCompanyName() {
+        return definition.company();
+    }
+
+    @Override
+    protected String getBaseUrl() {
+        return definition.baseUrl();
+    }
+
+    @Override
+    protected RenderingMode getRenderingMode() {
+        return definition.renderingMode();
+    }
+
+    @Override
+    protected String getPageUrlTemplate() {
+        return definition.pageUrlTemplate();
+    }
+
+    @Override
+    protected String getNextPageSelector() {
+        return definition.nextPageSelector();
+    }
+
+    @Override
+    protected String getListSelector() {
+        return definition.listSelector();
+    }
+
+    @Override
+    protected String getTitleSelector() {
+        return definition.titleSelector();
+    }
+
+    @Override
+    protected String getContentSelector() {
+        return definition.contentSelector();
+    }
+
+    @Override
+    protected String getTagSelector() {
+        return definition.tagSelector();
+    }
+
+    @Override
+    protected String extractTitle(Element element, Document doc) {
+        if (definition.listTitleSelector() != null) {
+            String title = element.select(definition.listTitleSelector()).text();
+            if (!title.isEmpty()) {
+                return title;
+            }
+        }
+        return super.extractTitle(element, doc);
+    }
+
+    @Override
+    protected LocalDateTime extractListedPublishDate(Element element) {
+        return definition.listDateSelector() != null
+                ? parseDate(element.selectFirst(definition.listDateSelector()))
+                : null;
+    }
+
+    @Override
+    protected LocalDateTime extractPublishDate(Document doc) {
+        return definition.dateSelector() != null
+                ? parseDate(doc.selectFirst(definition.dateSelector()))
+                : null;
+    }
+
+    @Override
+    protected Set<String> extractTags(Document doc) {
+        return definition.tagSelector() != null ? super.extractTags(doc) : Collections.emptySet();
+    }
+
+    /**
+     * 날짜 요소의 datetime/content 속성을 우선 사용하고, 없으면 텍스트를 지정한 형식으로 파싱
+     */
+    private LocalDateTime parseDate(Element element) {
+        if (element == null) {
+            return null;
+        }
+        String value = element.hasAttr("datetime") ? element.attr("datetime")
+                : element.hasAttr("content") ? element.attr("content")
+                : element.text();
+        value = value.trim();
+        try {
+            if (dateFormatter != null && !element.hasAttr("datetime") && !element.hasAttr("content")) {
+                return LocalDateTime.parse(value, dateFormatter);
+            }
+            // ISO 형식 (오프셋은 있어도 되고, 날짜만 있으면 자정)
+            return LocalDateTime.parse(value.length() == 10 ? value + "T00:00" : value,
+                    DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            log.debug("{} - 게시일 파싱 실패: {}", getCompanyName(), value);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package techblog.crawler.feed;
+
+import java.time.LocalDateTime;
+
+/**
+ * RSS item / Atom entry 하나
+ * content는 본문(description, content:encoded, Atom content/summary 중 가장 먼저 나온 값)이며 길이 상한이 적용된다
+ */
+public record FeedEntry(
+        String title,
+        String link,
+        String content,
+        LocalDateTime publishDate
+) {
+}
@@ -0,0 +1,209 @@
+package techblog.crawler.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * StAX 기반 RSS 2.0 / RSS 1.0 / Atom 스트리밍 파서
+ * 피드 전체를 메모리에 올리지 않고 항목을 하나씩 읽어서 넘겨주며, 처리기가 false를 반환하면 바로 읽기를 중단한다
+ * 항목 수와 항목별 본문 길이에 상한을 두어 피드 하나가 사용하는 메모리를 제한한다
+ */
+@Component
+@Slf4j
+public class StreamingFeedParser {
+    // RFC 822 요일/초 생략, 'GMT' 등의 타임존 약어까지 허용
+    private static final DateTimeFormatter RFC_822 = DateTimeFormatter.ofPattern("[EEE, ]d MMM yyyy HH:mm[:ss] [xx][XXX][z]", Locale.ENGLISH);
+    // 제목/링크/날짜 같은 짧은 필드의 최대 길이
+    private static final int MAX_FIELD_CHARS = 2048;
+
+    private final XMLInputFactory inputFactory;
+
+    @Value("${application.crawler.feed.max-entries:200}")
+    private int maxEntries;
+
+    @Value("${application.crawler.feed.max-entry-size:512KB}")
+    private DataSize maxEntrySize;
+
+    public StreamingFeedParser() {
+        inputFactory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * 피드를 읽으면서 항목마다 처리기를 호출한다
+     *
+     * @param handler 항목 처리기, false를 반환하면 나머지 항목은 읽지 않는다
+     * @return 처리기에 전달한 항목 수
+     */
+    public int parse(InputStream in, Predicate<FeedEntry> handler) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        try {
+            int count = 0;
+            while (count < maxEntries && reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !isEntry(reader.getLocalName())) {
+                    continue;
+                }
+                FeedEntry entry = readEntry(reader);
+                count++;
+                if (!handler.test(entry)) {
+                    break;
+                }
+            }
+            if (count >= maxEntries) {
+                log.debug("피드 항목 상한 도달 - {}건 이후 생략", maxEntries);
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isEntry(String localName) {
+        return "item".equals(localName) || "entry".equals(localName);
+    }
+
+    /**
+     * 현재 위치의 item/entry 요소를 끝까지 읽는다
+     */
+    private FeedEntry readEntry(XMLStreamReader reader) throws XMLStreamException {
+        int maxChars = (int) Math.min(Integer.MAX_VALUE, maxEntrySize.toBytes());
+        String title = null;
+        String link = null;
+        String content = null;
+        String published = null;
+        String updated = null;
+
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            switch (reader.getLocalName()) {
+                case "title" -> title = readText(reader, MAX_FIELD_CHARS);
+                case "link" -> {
+                    // Atom은 href 속성(rel이 없거나 alternate인 링크), RSS는 텍스트
+                    String href = reader.getAttributeValue(null, "href");
+                    String rel = reader.getAttributeValue(null, "rel");
+                    if (href != null) {
+                        if (link == null && (rel == null || "alternate".equals(rel))) {
+                            link = href;
+                        }
+                        skipElement(reader);
+                    } else {
+                        String text = readText(reader, MAX_FIELD_CHARS);
+                        if (link == null) {
+                            link = text;
+                        }
+                    }
+                }
+                case "description", "encoded", "content", "summary" -> {
+                    String text = readText(reader, maxChars);
+                    if (content == null || content.isBlank()) {
+                        content = text;
+                    }
+                }
+                case "pubDate", "published", "issued" -> published = readText(reader, MAX_FIELD_CHARS);
+                case "date", "updated", "modified" -> updated = readText(reader, MAX_FIELD_CHARS);
+                default -> depth++;
+            }
+        }
+
+        return new FeedEntry(trim(title), trim(link), content,
+                parseDate(published != null ? published : updated));
+    }
+
+    /**
+     * 요소의 텍스트를 끝 태그까지 읽는다 (하위 요소의 텍스트 포함, maxChars 초과분은 버림)
+     */
+    private static String readText(XMLStreamReader reader, int maxChars) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    int remaining = maxChars - text.length();
+                    if (remaining > 0) {
+                        int length = Math.min(reader.getTextLength(), remaining);
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), length);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    /**
+     * RFC 822(RSS 2.0), ISO 8601(Atom, dc:date) 형식의 날짜를 시스템 시간대로 변환
+     */
+    static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        try {
+            return toLocal(ZonedDateTime.parse(text, RFC_822));
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return toLocal(OffsetDateTime.parse(text).toZonedDateTime());
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDate.parse(text).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            log.debug("피드 날짜 파싱 실패: {}", text);
+            return null;
+        }
+    }
+
+    private static LocalDateTime toLocal(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,50 @@
+package techblog.crawler.fetch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 조건부 요청(If-None-Match / If-Modified-Since)으로 피드를 가져온다
+ * 피드가 바뀌지 않았으면 서버가 304를 돌려주므로 본문을 내려받거나 파싱하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedFetcher {
+    private final HttpFetcher httpFetcher;
+    private final FeedValidatorStore feedValidatorStore;
+
+    public FeedResponse fetch(String feedUrl) throws IOException, InterruptedException {
+        FeedValidators previous = feedValidatorStore.find(feedUrl);
+
+        Map<String, String> headers = new HashMap<>();
+        if (previous.etag() != null) {
+            headers.put("If-None-Match", previous.etag());
+        }
+        if (previous.lastModified() != null) {
+            headers.put("If-Modified-Since", previous.lastModified());
+        }
+
+        FetchResponse response = httpFetcher.fetch(feedUrl, headers);
+        if (response.isNotModified()) {
+            response.close();
+            log.debug("피드 변경 없음 (304): {}", feedUrl);
+            return FeedResponse.notModified(previous);
+        }
+
+        FeedValidators validators = new FeedValidators(response.header("ETag"), response.header("Last-Modified"));
+        return new FeedResponse(false, response.body(), validators);
+    }
+
+    /**
+     * 피드의 글이 저장까지 끝난 뒤에 검증자를 저장 (파싱/저장 실패 시 다음 실행에서 304 없이 다시 받도록)
+     */
+    public void saveValidators(String feedUrl, FeedValidators validators) {
+        feedValidatorStore.save(feedUrl, validators);
+    }
+}
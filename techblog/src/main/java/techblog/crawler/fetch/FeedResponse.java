@@ -0,0 +1,24 @@
+package techblog.crawler.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 피드 요청 결과
+ * notModified가 true이면 본문이 없으며, 아니면 압축이 해제된 본문 스트림을 가진다
+ */
+public record FeedResponse(
+        boolean notModified,
+        InputStream body,
+        FeedValidators validators
+) implements AutoCloseable {
+
+    public static FeedResponse notModified(FeedValidators validators) {
+        return new FeedResponse(true, InputStream.nullInputStream(), validators);
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
@@ -0,0 +1,53 @@
+package techblog.crawler.fetch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 피드별 ETag / Last-Modified를 Redis에 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedValidatorStore {
+    private static final String KEY_PREFIX = "crawler:feed:";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    // 오랫동안 크롤링되지 않은 피드의 검증자는 자동으로 정리
+    private static final Duration TTL = Duration.ofDays(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public FeedValidators find(String feedUrl) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> entries = hash.entries(KEY_PREFIX + feedUrl);
+        if (entries.isEmpty()) {
+            return FeedValidators.EMPTY;
+        }
+        return new FeedValidators(entries.get(ETAG), entries.get(LAST_MODIFIED));
+    }
+
+    public void save(String feedUrl, FeedValidators validators) {
+        String key = KEY_PREFIX + feedUrl;
+        if (validators.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        Map<String, String> entries = new HashMap<>();
+        if (validators.etag() != null) {
+            entries.put(ETAG, validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            entries.put(LAST_MODIFIED, validators.lastModified());
+        }
+        redisTemplate.delete(key);
+        redisTemplate.opsForHash().putAll(key, entries);
+        redisTemplate.expire(key, TTL);
+    }
+}
@@ -0,0 +1,12 @@
+package techblog.crawler.fetch;
+
+/**
+ * 조건부 요청에 사용하는 피드 검증자 (ETag / Last-Modified)
+ */
+public record FeedValidators(String etag, String lastModified) {
+    public static final FeedValidators EMPTY = new FeedValidators(null, null);
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
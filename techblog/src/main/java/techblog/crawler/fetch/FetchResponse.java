@@ -0,0 +1,56 @@
+package techblog.crawler.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Locale;
+
+/**
+ * HttpFetcher 응답
+ * body는 압축이 해제되고 최대 크기가 제한된 스트림이며, 사용 후 반드시 닫아야 한다
+ */
+public record FetchResponse(
+        String url,
+        int status,
+        HttpHeaders headers,
+        InputStream body
+) implements AutoCloseable {
+
+    public boolean isNotModified() {
+        return status == 304;
+    }
+
+    public String header(String name) {
+        return headers.firstValue(name).orElse(null);
+    }
+
+    /**
+     * Content-Type 헤더의 charset (없거나 알 수 없으면 null)
+     */
+    public String charset() {
+        String contentType = header("Content-Type");
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String param = part.trim();
+            if (param.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                String name = param.substring("charset=".length()).replace("\"", "").trim();
+                try {
+                    return Charset.forName(name).name();
+                } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
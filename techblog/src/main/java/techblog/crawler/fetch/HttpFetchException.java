@@ -0,0 +1,53 @@
+package techblog.crawler.fetch;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 크롤링 대상 서버가 오류 상태 코드를 돌려준 경우
+ */
+@Getter
+public class HttpFetchException extends IOException {
+    private final int status;
+    private final Duration retryAfter;
+
+    public HttpFetchException(String url, int status, String retryAfterHeader) {
+        super("HTTP 요청 실패 - status: " + status + ", url: " + url);
+        this.status = status;
+        this.retryAfter = parseRetryAfter(retryAfterHeader);
+    }
+
+    /**
+     * 429(요청 과다), 5xx(서버 오류)는 잠시 후 다시 시도할 수 있는 오류
+     */
+    public boolean isRetryable() {
+        return status == 429 || status >= 500;
+    }
+
+    /**
+     * Retry-After 헤더는 초 단위 숫자 또는 HTTP 날짜 형식
+     */
+    private static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식으로 재시도
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
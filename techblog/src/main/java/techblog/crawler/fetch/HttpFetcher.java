@@ -0,0 +1,166 @@
+package techblog.crawler.fetch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 모든 크롤러가 공유하는 HTTP 요청 계층
+ * 커넥션 풀/HTTP2를 지원하는 공용 HttpClient를 사용하고, 호스트별 요청 제한(PolitenessScheduler),
+ * 압축 해제, 응답 크기 제한, 요청 지표 수집을 한곳에서 처리한다
+ */
+@Component
+@Slf4j
+public class HttpFetcher {
+    private final HttpClient httpClient;
+    private final PolitenessScheduler politenessScheduler;
+    private final MeterRegistry meterRegistry;
+    private final Duration readTimeout;
+    private final long maxBodySize;
+    private final String userAgent;
+    private final DistributionSummary responseSize;
+
+    public HttpFetcher(
+            HttpClient crawlerHttpClient,
+            PolitenessScheduler politenessScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${application.crawler.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${application.crawler.http.max-body-size:5MB}") DataSize maxBodySize,
+            @Value("${application.crawler.http.user-agent:Mozilla/5.0}") String userAgent) {
+        this.httpClient = crawlerHttpClient;
+        this.politenessScheduler = politenessScheduler;
+        this.meterRegistry = meterRegistry;
+        this.readTimeout = readTimeout;
+        this.maxBodySize = maxBodySize.toBytes();
+        this.userAgent = userAgent;
+        this.responseSize = DistributionSummary.builder("crawler.http.response.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public FetchResponse fetch(String url) throws IOException, InterruptedException {
+        return fetch(url, Map.of());
+    }
+
+    /**
+     * GET 요청 (2xx/304 응답만 반환, 그 외 상태 코드는 HttpFetchException)
+     * 429/5xx와 네트워크 오류는 PolitenessScheduler가 호스트 단위로 재시도한다
+     */
+    public FetchResponse fetch(String url, Map<String, String> headers) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("User-Agent", userAgent)
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET();
+        headers.forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        // 본문을 읽는 동안에도 호스트 동시 요청 수에 포함되도록 응답을 닫을 때 자리를 반환
+        return politenessScheduler.executeHeld(url, permit -> send(url, request, permit));
+    }
+
+    private FetchResponse send(String url, HttpRequest request, PolitenessScheduler.Permit permit)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        Timer.builder("crawler.http.requests")
+                .tag("host", String.valueOf(request.uri().getHost()))
+                .tag("status", String.valueOf(response.statusCode()))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+
+        int status = response.statusCode();
+        if (status >= 400) {
+            response.body().close();
+            throw new HttpFetchException(url, status, response.headers().firstValue("Retry-After").orElse(null));
+        }
+
+        HttpHeaders responseHeaders = response.headers();
+        InputStream body;
+        try {
+            body = new BoundedInputStream(decode(response.body(), responseHeaders), url, permit);
+        } catch (IOException e) {
+            response.body().close();
+            throw e;
+        }
+        return new FetchResponse(url, status, responseHeaders, body);
+    }
+
+    private InputStream decode(InputStream body, HttpHeaders headers) throws IOException {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    /**
+     * 압축 해제 후 크기가 최대 응답 크기를 넘으면 읽기를 중단
+     * 닫을 때 호스트 동시 요청 자리를 반환
+     */
+    private final class BoundedInputStream extends FilterInputStream {
+        private final String url;
+        private final PolitenessScheduler.Permit permit;
+        private long bytesRead;
+
+        private BoundedInputStream(InputStream in, String url, PolitenessScheduler.Permit permit) {
+            super(in);
+            this.url = url;
+            this.permit = permit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            bytesRead += n;
+            if (bytesRead > maxBodySize) {
+                throw new IOException("응답 크기 제한 초과 (" + maxBodySize + " bytes): " + url);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                responseSize.record(bytesRead);
+                super.close();
+            } finally {
+                permit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package techblog.crawler.fetch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 호스트별 요청 속도/동시성 제어
+ * 호스트마다 토큰 버킷과 동시 요청 수 제한을 두고, 429/503 응답에는 Retry-After 또는
+ * 지수 백오프(지터 포함)로 대기한 뒤 재시도한다. 서로 다른 호스트는 서로 기다리지 않는다
+ * HTTP 응답은 본문을 다 읽고 닫을 때까지 동시 요청 자리를 차지한다 (executeHeld)
+ */
+@Component
+@Slf4j
+public class PolitenessScheduler {
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int maxConcurrencyPerHost;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+    // 호스트별로 따로 지정한 초당 요청 수 (크롤러 정의의 요청 제한)
+    private final Map<String, Double> hostRates = new ConcurrentHashMap<>();
+
+    public PolitenessScheduler(
+            @Value("${application.crawler.politeness.requests-per-second:1.0}") double requestsPerSecond,
+            @Value("${application.crawler.politeness.burst:2}") int burst,
+            @Value("${application.crawler.politeness.max-concurrency-per-host:2}") int maxConcurrencyPerHost,
+            @Value("${application.crawler.politeness.max-attempts:3}") int maxAttempts,
+            @Value("${application.crawler.politeness.base-backoff:1s}") Duration baseBackoff,
+            @Value("${application.crawler.politeness.max-backoff:1m}") Duration maxBackoff) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @FunctionalInterface
+    public interface FetchCall<T> {
+        T fetch() throws IOException, InterruptedException;
+    }
+
+    /**
+     * 결과를 다 쓸 때까지 호스트 동시 요청 자리를 잡아두는 요청 (응답 본문 스트림 등)
+     */
+    @FunctionalInterface
+    public interface HeldFetchCall<T> {
+        T fetch(Permit permit) throws IOException, InterruptedException;
+    }
+
+    /**
+     * 호스트 동시 요청 자리, 여러 번 release해도 한 번만 반환된다
+     */
+    public interface Permit {
+        void release();
+    }
+
+    /**
+     * URL의 호스트에 별도 요청 속도 지정 (null이면 기본값으로 되돌림)
+     */
+    public void setHostRate(String url, Double requestsPerSecond) {
+        String host = hostOf(url);
+        if (requestsPerSecond != null) {
+            hostRates.put(host, requestsPerSecond);
+        } else {
+            hostRates.remove(host);
+        }
+        HostState state = hosts.get(host);
+        if (state != null) {
+            state.rate = rateOf(host);
+        }
+    }
+
+    /**
+     * 호스트 제한을 지키면서 요청을 실행하고, 일시적인 오류는 재시도
+     */
+    public <T> T execute(String url, FetchCall<T> call) throws IOException, InterruptedException {
+        return executeHeld(url, permit -> {
+            try {
+                return call.fetch();
+            } finally {
+                permit.release();
+            }
+        });
+    }
+
+    /**
+     * execute와 같지만, 성공하면 호스트 동시 요청 자리를 돌려주지 않고 call이 넘겨받은 permit으로 직접 반환한다
+     * 응답을 돌려받은 뒤 본문을 읽는 동안에도 같은 호스트의 동시 요청 수 제한이 유지되도록 할 때 사용
+     * (실패/재시도 시에는 여기서 반환)
+     */
+    public <T> T executeHeld(String url, HeldFetchCall<T> call) throws IOException, InterruptedException {
+        HostState host = hosts.computeIfAbsent(hostOf(url), key -> new HostState(rateOf(key)));
+
+        for (int attempt = 1; ; attempt++) {
+            host.acquire();
+            Permit permit = host.newPermit();
+            boolean succeeded = false;
+            try {
+                T result = call.fetch(permit);
+                succeeded = true;
+                host.onSuccess();
+                return result;
+            } catch (IOException e) {
+                boolean retryable = !(e instanceof HttpFetchException httpError) || httpError.isRetryable();
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                Duration delay = backoffDelay(e, attempt);
+                host.onRetry(delay, e instanceof HttpFetchException);
+                log.warn("요청 실패, {}ms 후 재시도 ({}/{}) - {}: {}",
+                        delay.toMillis(), attempt, maxAttempts, url, e.getMessage());
+            } finally {
+                if (!succeeded) {
+                    permit.release();
+                }
+            }
+        }
+    }
+
+    private Duration backoffDelay(IOException e, int attempt) {
+        if (e instanceof HttpFetchException httpError && httpError.getRetryAfter() != null) {
+            return min(httpError.getRetryAfter(), maxBackoff);
+        }
+        // 지수 백오프 + 지터: 대기 시간의 절반은 고정, 나머지 절반은 무작위
+        long exponential = Math.min(baseBackoff.toMillis() << (attempt - 1), maxBackoff.toMillis());
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private double rateOf(String host) {
+        return hostRates.getOrDefault(host, requestsPerSecond);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private final class HostState {
+        private final Semaphore permits = new Semaphore(maxConcurrencyPerHost, true);
+        private double tokens = burst;
+        private long lastRefill = System.nanoTime();
+        private long blockedUntil = lastRefill;
+        // 요청 제한 응답을 받으면 속도를 낮추고, 성공이 이어지면 원래 속도로 회복
+        private double rateFactor = 1.0;
+        private volatile double rate;
+
+        HostState(double rate) {
+            this.rate = rate;
+        }
+
+        void acquire() throws InterruptedException {
+            permits.acquire();
+            try {
+                long waitNanos = reserve();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            } catch (InterruptedException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        Permit newPermit() {
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            };
+        }
+
+        /**
+         * 토큰 하나를 예약하고 사용 가능해질 때까지의 대기 시간을 반환
+         */
+        private synchronized long reserve() {
+            long now = System.nanoTime();
+            double currentRate = rate * rateFactor;
+            tokens = Math.min(burst, tokens + (now - lastRefill) / 1e9 * currentRate);
+            lastRefill = now;
+            tokens -= 1;
+
+            long tokenWait = tokens >= 0 ? 0 : (long) (-tokens / currentRate * 1e9);
+            return Math.max(tokenWait, blockedUntil - now);
+        }
+
+        synchronized void onSuccess() {
+            rateFactor = Math.min(1.0, rateFactor * 1.25);
+        }
+
+        synchronized void onRetry(Duration delay, boolean throttled) {
+            if (throttled) {
+                rateFactor = Math.max(0.125, rateFactor / 2);
+            }
+            blockedUntil = Math.max(blockedUntil, System.nanoTime() + delay.toNanos());
+        }
+    }
+}
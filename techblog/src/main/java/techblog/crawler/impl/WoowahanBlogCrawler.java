@@ -1,49 +1,37 @@
 package techblog.crawler.impl;
 
-import com.rometools.rome.io.SyndFeedInput;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.By;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-import techblog.crawler.RssFeedCrawler;
-
-
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import techblog.crawler.ArticleRetryQueue;
+import techblog.crawler.CrawlStateStore;
+import techblog.crawler.WebCrawler;
+import techblog.crawler.browser.BrowserSessionPool;
+import techblog.crawler.fetch.HttpFetcher;
+import techblog.crawler.fetch.PolitenessScheduler;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.*;
-import java.util.stream.Collectors;
-import org.jsoup.Jsoup;
-import techblog.crawler.WebCrawler;
-import techblog.domain.BlogPost;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
 
 @Component
 @Slf4j
 public class WoowahanBlogCrawler extends WebCrawler {
-    private WebDriver driver;
-    private static final Duration TIMEOUT = Duration.ofSeconds(10);
-
-    @PostConstruct
-    public void init() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
-        driver = new ChromeDriver(options);
-        driver.manage().timeouts().implicitlyWait(TIMEOUT);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM.dd.yyyy", Locale.ENGLISH);
+
+    public WoowahanBlogCrawler(CrawlStateStore crawlStateStore,
+                               BrowserSessionPool browserSessionPool,
+                               HttpFetcher httpFetcher,
+                               PolitenessScheduler politenessScheduler,
+                               @Qualifier("articleExecutor") ExecutorService articleExecutor,
+                               ArticleRetryQueue articleRetryQueue) {
+        super(crawlStateStore, browserSessionPool, httpFetcher, politenessScheduler, articleExecutor,
+                articleRetryQueue);
     }
 
     @Override
@@ -51,9 +39,15 @@ public class WoowahanBlogCrawler extends WebCrawler {
         return "https://techblog.woowahan.com/";
     }
 
+    // 목록은 자바스크립트로 렌더링되므로 브라우저 사용, 본문은 서버 렌더링이라 정적 수집
+    @Override
+    protected RenderingMode getRenderingMode() {
+        return RenderingMode.HYBRID;
+    }
+
     @Override
     protected String getListSelector() {
-        return ".post-list .post-item";
+        return ".post-list .post-item:not(.firstpaint)";
     }
 
     @Override
@@ -63,79 +57,46 @@ public class WoowahanBlogCrawler extends WebCrawler {
 
     @Override
     protected String getContentSelector() {
-        return "div.entry-content";
+        return ".content";
     }
 
     @Override
     protected String getTagSelector() {
-        return "a[rel=tag]";
+        return ".post-tags a";
     }
 
     @Override
-    public List<BlogPost> crawl() {
-        List<BlogPost> allPosts = new ArrayList<>();
+    protected String extractTitle(Element element, Document doc) {
+        String title = element.select("h2.post-title").text();
+        return title.isEmpty() ? super.extractTitle(element, doc) : title;
+    }
 
-        try {
-            driver.get(getBaseUrl());
-            WebDriverWait wait = new WebDriverWait(driver, TIMEOUT);
-
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".post-list")));
-
-            List<Map<String, String>> postInfos = new ArrayList<>();
-            for (WebElement element : driver.findElements(By.cssSelector(".post-item:not(.firstpaint)"))) {
-                Map<String, String> info = new HashMap<>();
-                info.put("url", element.findElement(By.cssSelector("a")).getAttribute("href"));
-                info.put("title", element.findElement(By.cssSelector("h2.post-title")).getText());
-                info.put("date", element.findElement(By.cssSelector("time.post-author-date")).getText());
-                postInfos.add(info);
-            }
+    @Override
+    protected String extractContent(Document doc) {
+        Element contentElement = doc.selectFirst(getContentSelector());
+        return contentElement != null ? extractCleanContent(contentElement) : "";
+    }
 
-            for (Map<String, String> info : postInfos) {
-                try {
-                    driver.get(info.get("url"));
-                    // 수정된 선택자: .post-entry 또는 .content
-                    wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".content")));
-
-                    // 전체 본문 내용 추출
-                    WebElement contentElement = driver.findElement(By.cssSelector(".content"));
-                    String content = extractCleanContent(contentElement);
-
-                    BlogPost post = BlogPost.builder()
-                            .title(info.get("title"))
-                            .content(content)
-                            .company(getCompanyName())
-                            .url(info.get("url"))
-                            .publishDate(parseDate(info.get("date")))
-                            .tags(extractTags())
-                            .build();
-
-                    allPosts.add(post);
-                    Thread.sleep(1000);
-
-                    log.info("포스트 크롤링 완료: {}", info.get("title"));  // 로그 추가
-                } catch (Exception e) {
-                    log.error("포스트 크롤링 중 오류 - URL: {}, 오류: {}", info.get("url"), e.getMessage());
-                }
-            }
-        } catch (Exception e) {
-            log.error("크롤링 중 오류: {}", e.getMessage());
+    @Override
+    protected LocalDateTime extractListedPublishDate(Element element) {
+        try {
+            return parseDate(element.select("time.post-author-date").text());
+        } catch (DateTimeParseException e) {
+            return null;
         }
-
-        return allPosts;
     }
 
-    private String extractCleanContent(WebElement contentElement) {
+    private String extractCleanContent(Element contentElement) {
         try {
-            String htmlContent = contentElement.getAttribute("innerHTML");
-            Document doc = Jsoup.parse(htmlContent);
+            Element content = contentElement.clone();
 
             // 불필요한 요소 제거
-            doc.select("script, style, iframe, .navigation, .share-wrap, .comments").remove();
+            content.select("script, style, iframe, .navigation, .share-wrap, .comments").remove();
 
             StringBuilder cleanContent = new StringBuilder();
 
             // 본문의 모든 텍스트 노드와 코드 블록을 순회하며 추출
-            for (Element element : doc.select("p, h1, h2, h3, h4, h5, h6, pre, code, ul, ol, li")) {
+            for (Element element : content.select("p, h1, h2, h3, h4, h5, h6, pre, code, ul, ol, li")) {
                 String text = element.text().trim();
                 if (!text.isEmpty()) {
                     cleanContent.append("\n").append(text);
@@ -147,13 +108,10 @@ public class WoowahanBlogCrawler extends WebCrawler {
                     .replaceAll("\\s{2,}", " ");
         } catch (Exception e) {
             log.error("컨텐츠 정제 중 오류: {}", e.getMessage());
-            return contentElement.getText();
+            return contentElement.text();
         }
     }
 
-
-
-
     @Override
     public String getCompanyName() {
         return "우아한형제들";
@@ -164,22 +122,8 @@ public class WoowahanBlogCrawler extends WebCrawler {
         return null;
     }
 
-    private Set<String> extractTags() {
-        return driver.findElements(By.cssSelector(".post-tags a")).stream()
-                .map(WebElement::getText)
-                .collect(Collectors.toSet());
-    }
-
     private LocalDateTime parseDate(String dateStr) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM.dd.yyyy", Locale.ENGLISH);
-        LocalDate date = LocalDate.parse(dateStr, formatter);
+        LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
         return date.atStartOfDay();
     }
-
-    @PreDestroy
-    public void cleanup() {
-        if (driver != null) {
-            driver.quit();
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package techblog.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블로그별 과거 글 수집(BACKFILL) 진행 위치
+ * 페이지를 하나 수집할 때마다 다음 페이지 위치를 저장하므로, 재시작하거나 다른 인스턴스가 이어받아도 그 페이지부터 진행한다
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillCheckpoint {
+
+    public enum Status {
+        RUNNING, PAUSED, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String company;
+
+    // 다음에 수집할 페이지 위치 (null이면 첫 페이지)
+    @Column(name = "next_cursor", length = 1000)
+    private String nextCursor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Status status;
+
+    // 수집할 최대 페이지 수
+    private int maxPages;
+
+    private int pages;
+
+    private int found;
+
+    private int saved;
+
+    // 연속 실패 횟수 (페이지를 수집하면 0으로 초기화)
+    private int failures;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    public BackfillCheckpoint(String company, int maxPages) {
+        this.company = company;
+        restart(maxPages);
+    }
+
+    /**
+     * 첫 페이지부터 다시 시작
+     */
+    public void restart(int maxPages) {
+        this.nextCursor = null;
+        this.maxPages = maxPages;
+        this.pages = 0;
+        this.found = 0;
+        this.saved = 0;
+        this.failures = 0;
+        this.lastError = null;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    /**
+     * 저장된 위치부터 이어서 진행 (최대 페이지 수만 변경)
+     */
+    public void resume(int maxPages) {
+        this.maxPages = maxPages;
+        this.failures = 0;
+        this.status = pages >= maxPages ? Status.DONE : Status.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void pause() {
+        if (status == Status.RUNNING) {
+            this.status = Status.PAUSED;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 한 페이지 수집 완료, 마지막 페이지이거나 최대 페이지 수에 도달하면 DONE
+     */
+    public void advance(String nextCursor, int found, int saved) {
+        this.nextCursor = nextCursor;
+        this.pages++;
+        this.found += found;
+        this.saved += saved;
+        this.failures = 0;
+        this.lastError = null;
+        if (nextCursor == null || pages >= maxPages) {
+            this.status = Status.DONE;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 처리, 연속 실패가 maxFailures에 도달하면 FAILED (위치는 유지되므로 다시 시작하면 이어서 진행)
+     */
+    public void fail(String error, int maxFailures) {
+        this.failures++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (failures >= maxFailures) {
+            this.status = Status.FAILED;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -11,17 +11,28 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Getter
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_blog_posts_url", columnNames = "url"),
+        indexes = {
+                // 커서 목록(keyset) 조회용
+                @Index(name = "idx_blog_posts_publish_date_id", columnList = "publish_date, id"),
+                // 색인 실패 복구용
+                @Index(name = "idx_blog_posts_index_pending", columnList = "index_pending, id")
+        })
 @NoArgsConstructor
 public class BlogPost {
 
+    // IDENTITY는 JDBC 배치 insert를 막으므로 pooled 시퀀스(MySQL에서는 테이블로 대체) 사용
+    // 기존 DB의 시퀀스 시작 값과 URL 유니크 제약은 BlogPostSchemaMigration이 맞춘다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blog_post_seq")
+    @SequenceGenerator(name = "blog_post_seq", sequenceName = "blog_posts_seq", allocationSize = 50)
     private Long id;
 
     @Field(type = FieldType.Text)
@@ -52,14 +63,65 @@ public class BlogPost {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 제목/본문/태그의 SHA-256 지문 (재수집 시 변경 여부 판단용)
+    @Column(length = 64)
+    private String contentHash;
+
+    // 본문의 SimHash 서명 (유사 문서 탐지용, 본문이 짧으면 null)
+    private Long simhash;
+
+    // 다른 포스트와 거의 같은 내용이면 원본 포스트의 id (검색 인덱스에서 제외)
+    private Long duplicateOf;
+
+    // 저장한 내용이 아직 검색 인덱스에 반영되지 않았으면 true (색인에 성공하면 해제, 실패하면 BlogPostIndexer가 다시 색인)
+    @Column(nullable = false)
+    private boolean indexPending;
+
     @Builder
     public BlogPost(String title, String content, String company, String url,
                     LocalDateTime publishDate, Set<String> tags) {
         this.title = title;
         this.content = content;
         this.company = company;
-        this.url = url;
+        this.url = UrlCanonicalizer.canonicalize(url);
         this.publishDate = publishDate;
         this.tags = tags;
+        this.contentHash = ContentFingerprint.of(title, content, tags);
+        this.simhash = SimHash.of(content);
+        this.indexPending = true;
+    }
+
+    public void markDuplicateOf(Long originalId) {
+        this.duplicateOf = originalId;
+        this.indexPending = false;
+    }
+
+    public boolean isDuplicate() {
+        return duplicateOf != null;
+    }
+
+    /**
+     * 다시 수집한 내용을 반영하고, 내용이 실제로 바뀐 경우에만 true를 반환
+     * 지문이 없는 기존 데이터는 현재 내용으로 지문을 먼저 채운다
+     */
+    public boolean refreshFrom(BlogPost crawled) {
+        if (contentHash == null) {
+            contentHash = ContentFingerprint.of(title, content, tags);
+        }
+        if (contentHash.equals(crawled.getContentHash())) {
+            return false;
+        }
+
+        this.title = crawled.getTitle();
+        this.content = crawled.getContent();
+        this.tags = crawled.getTags() != null ? new HashSet<>(crawled.getTags()) : new HashSet<>();
+        if (crawled.getPublishDate() != null) {
+            this.publishDate = crawled.getPublishDate();
+        }
+        this.contentHash = crawled.getContentHash();
+        this.simhash = crawled.getSimhash();
+        this.updatedAt = LocalDateTime.now();
+        this.indexPending = !isDuplicate();
+        return true;
     }
 }
\ No newline at end of file
@@ -40,9 +40,12 @@ public class BlogPostDocument {
     @Field(type = FieldType.Keyword)
     private String url;
 
+    @Field(type = FieldType.Keyword, index = false)
+    private String contentHash;
+
     @Builder
     public BlogPostDocument(String id, String title, String content, String company,
-                            String url, LocalDateTime publishDate, Set<String> tags) {
+                            String url, LocalDateTime publishDate, Set<String> tags, String contentHash) {
         this.id = id;
         this.title = title;
         this.content = content;
@@ -50,6 +53,7 @@ public class BlogPostDocument {
         this.url = url;
         this.publishDate = publishDate;
         this.tags = tags;
+        this.contentHash = contentHash;
     }
 
     public static BlogPostDocument from(BlogPost post) {
@@ -61,6 +65,7 @@ public class BlogPostDocument {
                 .url(post.getUrl())
                 .publishDate(post.getPublishDate())
                 .tags(post.getTags())
+                .contentHash(post.getContentHash())
                 .build();
     }
 }
\ No newline at end of file
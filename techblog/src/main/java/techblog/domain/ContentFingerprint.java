@@ -0,0 +1,52 @@
+package techblog.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 내용 지문 (SHA-256)
+ * 제목/본문/태그를 정규화한 뒤 해시하므로 공백이나 태그 순서만 다른 경우는 같은 내용으로 본다
+ */
+public final class ContentFingerprint {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0000';
+
+    private ContentFingerprint() {
+    }
+
+    public static String of(String title, String content, Collection<String> tags) {
+        StringBuilder source = new StringBuilder()
+                .append(normalize(title)).append(SEPARATOR)
+                .append(normalize(content)).append(SEPARATOR);
+        if (tags != null) {
+            tags.stream()
+                    .filter(Objects::nonNull)
+                    .map(tag -> normalize(tag).toLowerCase())
+                    .sorted()
+                    .forEach(tag -> source.append(tag).append(','));
+        }
+        return HexFormat.of().formatHex(sha256().digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package techblog.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import techblog.crawler.CrawlMode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 작업 (블로그 하나 또는 실패한 게시글 하나)
+ * 작업을 가져간 인스턴스는 lease 시간 동안만 소유하며, 그 안에 끝내지 못하면 다른 작업자가 다시 가져간다
+ */
+@Entity
+@Table(name = "crawl_jobs",
+        indexes = {
+                @Index(name = "idx_crawl_jobs_status_lease", columnList = "status, lease_until"),
+                @Index(name = "idx_crawl_jobs_status_available", columnList = "status, available_at"),
+                @Index(name = "idx_crawl_jobs_status_updated", columnList = "status, updated_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlJob {
+
+    public enum Type {
+        SOURCE, ARTICLE
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 같은 실행에서 만들어진 작업 묶음
+    @Column(length = 36, nullable = false)
+    private String runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private CrawlMode mode;
+
+    @Column(nullable = false)
+    private String company;
+
+    // ARTICLE 작업의 게시글 URL
+    @Column(length = 1000)
+    private String url;
+
+    // ARTICLE 작업의 목록에 표시된 게시일 (본문 페이지에 날짜가 없는 블로그용)
+    private LocalDateTime publishDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Status status;
+
+    private int attempts;
+
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    // 이 시각 이후에만 가져갈 수 있음 (실패한 작업의 재시도 대기, null이면 바로)
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private int found;
+
+    private int saved;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private CrawlJob(String runId, Type type, CrawlMode mode, String company, String url) {
+        this.runId = runId;
+        this.type = type;
+        this.mode = mode;
+        this.company = company;
+        this.url = url;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = createdAt;
+    }
+
+    public static CrawlJob source(String runId, CrawlMode mode, String company) {
+        return new CrawlJob(runId, Type.SOURCE, mode, company, null);
+    }
+
+    public static CrawlJob article(String runId, String company, String url, LocalDateTime publishDate) {
+        CrawlJob job = new CrawlJob(runId, Type.ARTICLE, CrawlMode.INCREMENTAL, company, url);
+        job.publishDate = publishDate;
+        return job;
+    }
+
+    public void lease(String owner, Duration duration) {
+        this.status = Status.RUNNING;
+        this.availableAt = null;
+        this.attempts++;
+        this.leaseOwner = owner;
+        this.leaseUntil = LocalDateTime.now().plus(duration);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(int found, int saved) {
+        this.status = Status.DONE;
+        this.found = found;
+        this.saved = saved;
+        this.lastError = null;
+        release();
+    }
+
+    /**
+     * 실패 처리, 시도 횟수가 남아 있으면 backoff * 2^(시도 횟수 - 1) 뒤에 다시 가져갈 수 있도록 대기 상태로 돌린다
+     */
+    public void fail(String error, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        this.status = attempts >= maxAttempts ? Status.FAILED : Status.PENDING;
+        this.lastError = truncate(error);
+        if (status == Status.PENDING) {
+            Duration delay = backoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+            this.availableAt = LocalDateTime.now().plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+        }
+        release();
+    }
+
+    /**
+     * 재시도 없이 실패 처리 (실행할 수 없는 작업)
+     */
+    public void abandon(String error) {
+        this.status = Status.FAILED;
+        this.lastError = truncate(error);
+        release();
+    }
+
+    /**
+     * 시도 횟수를 되돌리고 delay 뒤에 다시 가져갈 수 있도록 대기 상태로 돌린다
+     */
+    public void postpone(Duration delay) {
+        this.status = Status.PENDING;
+        this.attempts = Math.max(attempts - 1, 0);
+        this.availableAt = LocalDateTime.now().plus(delay);
+        release();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    private void release() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,90 @@
+package techblog.domain;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 게시글 URL 정규화
+ * 같은 글을 가리키는 URL 변형(추적 파라미터, 프래그먼트, 끝 슬래시, 호스트 대소문자, 기본 포트)을 하나로 맞춘다
+ * 스킴은 원래대로 둔다 (https를 지원하지 않는 블로그도 있으므로 http를 https로 바꾸지 않음)
+ */
+public final class UrlCanonicalizer {
+    // utm_* 외에 제거하는 광고/메일 클릭 추적 파라미터
+    // ref, source처럼 글 내용을 고르는 데 쓰일 수 있는 이름은 제거하지 않는다
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "mc_cid", "mc_eid");
+
+    private UrlCanonicalizer() {
+    }
+
+    /**
+     * @return 정규화한 URL, 파싱할 수 없는 URL은 앞뒤 공백만 제거해서 반환
+     */
+    public static String canonicalize(String url) {
+        if (url == null || url.isBlank()) {
+            return url;
+        }
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            if (!scheme.equals("http") && !scheme.equals("https")) {
+                return trimmed;
+            }
+            int port = uri.getPort();
+            if ((port == 80 && scheme.equals("http")) || (port == 443 && scheme.equals("https"))) {
+                port = -1;
+            }
+
+            StringBuilder canonical = new StringBuilder(scheme).append("://");
+            if (uri.getRawUserInfo() != null) {
+                canonical.append(uri.getRawUserInfo()).append('@');
+            }
+            canonical.append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (port != -1) {
+                canonical.append(':').append(port);
+            }
+
+            String path = uri.getRawPath();
+            while (path != null && path.length() > 1 && path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            if (path != null && !path.equals("/")) {
+                canonical.append(path);
+            }
+
+            String query = stripTrackingParams(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                canonical.append('?').append(query);
+            }
+            return canonical.toString();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+
+    private static String stripTrackingParams(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        StringJoiner kept = new StringJoiner("&");
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int eq = param.indexOf('=');
+            String name = (eq >= 0 ? param.substring(0, eq) : param).toLowerCase(Locale.ROOT);
+            if (!name.startsWith("utm_") && !TRACKING_PARAMS.contains(name)) {
+                kept.add(param);
+            }
+        }
+        return kept.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package techblog.dto.response;
+
+import techblog.domain.BackfillCheckpoint;
+
+import java.time.LocalDateTime;
+
+public record BackfillResponse(
+        String company,
+        BackfillCheckpoint.Status status,
+        int pages,
+        int maxPages,
+        int found,
+        int saved,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt
+) {
+    public static BackfillResponse from(BackfillCheckpoint checkpoint) {
+        return new BackfillResponse(
+                checkpoint.getCompany(),
+                checkpoint.getStatus(),
+                checkpoint.getPages(),
+                checkpoint.getMaxPages(),
+                checkpoint.getFound(),
+                checkpoint.getSaved(),
+                checkpoint.getLastError(),
+                checkpoint.getStartedAt(),
+                checkpoint.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package techblog.dto.response;
+
+import techblog.crawler.CrawlMode;
+import techblog.service.CrawlResult;
+import techblog.service.CrawlRun;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CrawlRunResponse(
+        String runId,
+        CrawlMode mode,
+        CrawlRun.Status status,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        int totalSources,
+        int completedSources,
+        int found,
+        int saved,
+        int updated,
+        int failed,
+        String error,
+        List<CrawlResult> results
+) {
+    public static CrawlRunResponse from(CrawlRun run) {
+        List<CrawlResult> results = List.copyOf(run.getResults());
+        return new CrawlRunResponse(
+                run.getRunId(),
+                run.getMode(),
+                run.getStatus(),
+                run.getStartedAt(),
+                run.getFinishedAt(),
+                run.getTotalSources(),
+                results.size(),
+                results.stream().mapToInt(CrawlResult::found).sum(),
+                results.stream().mapToInt(CrawlResult::saved).sum(),
+                results.stream().mapToInt(CrawlResult::updated).sum(),
+                results.stream().mapToInt(CrawlResult::failed).sum(),
+                run.getError(),
+                results
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package techblog.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 그대로 전달 (마지막 페이지면 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPageResponse<>(content, size, nextCursor, nextCursor != null);
+    }
+}
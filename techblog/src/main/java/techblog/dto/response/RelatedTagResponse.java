@@ -0,0 +1,16 @@
+package techblog.dto.response;
+
+import techblog.service.TagCooccurrenceIndex;
+
+/**
+ * @param count 함께 쓰인 게시글 수
+ */
+public record RelatedTagResponse(
+        String tag,
+        double score,
+        int count
+) {
+    public static RelatedTagResponse from(TagCooccurrenceIndex.RelatedTag relatedTag) {
+        return new RelatedTagResponse(relatedTag.tag(), relatedTag.score(), relatedTag.count());
+    }
+}
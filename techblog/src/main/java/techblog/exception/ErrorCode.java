@@ -27,9 +27,20 @@ public enum ErrorCode {
     // 블로그 포스트 관련 에러
     POST_NOT_FOUND(404, "P001", "게시글을 찾을 수 없음"),
 
+    // 검색 관련 에러
+    INVALID_CURSOR(400, "S001", "유효하지 않은 커서"),
+    CURSOR_EXPIRED(410, "S002", "만료된 커서, 처음부터 다시 조회"),
+
     // 북마크 관련 에러
     DUPLICATE_BOOKMARK(409, "B001", "이미 북마크된 게시글"),
-    BOOKMARK_NOT_FOUND(404, "B002", "북마크를 찾을 수 없음");
+    BOOKMARK_NOT_FOUND(404, "B002", "북마크를 찾을 수 없음"),
+
+    // 크롤링 관련 에러
+    CRAWL_ALREADY_RUNNING(409, "CR001", "이미 실행 중인 크롤링이 있음"),
+    CRAWL_RUN_NOT_FOUND(404, "CR002", "크롤링 실행을 찾을 수 없음"),
+    CRAWLER_NOT_FOUND(404, "CR003", "크롤러를 찾을 수 없음"),
+    BACKFILL_NOT_SUPPORTED(400, "CR004", "과거 글 수집을 지원하지 않는 크롤러"),
+    BACKFILL_NOT_FOUND(404, "CR005", "과거 글 수집을 찾을 수 없음");
 
     private final int status;    // HTTP 상태 코드
     private final String code;   // 내부 에러 코드
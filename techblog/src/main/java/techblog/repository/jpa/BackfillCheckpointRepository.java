@@ -0,0 +1,16 @@
+package techblog.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import techblog.domain.BackfillCheckpoint;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+    Optional<BackfillCheckpoint> findByCompany(String company);
+
+    // 진행할 과거 글 수집 (오래 진행하지 않은 블로그부터)
+    List<BackfillCheckpoint> findByStatusOrderByUpdatedAtAsc(BackfillCheckpoint.Status status);
+}
@@ -5,19 +5,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import techblog.domain.BlogPost;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 @Repository
 public interface BlogPostJpaRepository extends JpaRepository<BlogPost, String> {
-    // 최근 게시물 조회
-    List<BlogPost> findTop10ByOrderByPublishDateDesc();
+    // 최근 게시물 조회 (다른 포스트의 중복은 제외)
+    List<BlogPost> findTop10ByDuplicateOfIsNullOrderByPublishDateDesc();
 
     // 회사별 최근 게시물 조회
     List<BlogPost> findByCompanyOrderByPublishDateDesc(String company, Pageable pageable);
@@ -76,9 +78,90 @@ public interface BlogPostJpaRepository extends JpaRepository<BlogPost, String> {
             "ORDER BY cnt DESC")
     List<Object[]> findCompanyTagTrends(String company, LocalDateTime startDate);
 
+    // 커서 목록 첫 페이지 (publishDate, id 역순, 게시일 없는 글은 마지막, 다른 포스트의 중복은 제외)
+    @Query("SELECT b FROM BlogPost b WHERE b.duplicateOf IS NULL ORDER BY b.publishDate DESC, b.id DESC")
+    List<BlogPost> findFirstPage(Pageable pageable);
+
+    // 커서 목록 다음 페이지, (publishDate, id) 인덱스로 위치를 바로 찾는다 (OFFSET 없음)
+    @Query("SELECT b FROM BlogPost b WHERE b.duplicateOf IS NULL AND (" +
+            "b.publishDate < :publishDate OR (b.publishDate = :publishDate AND b.id < :id) " +
+            "OR b.publishDate IS NULL) " +
+            "ORDER BY b.publishDate DESC, b.id DESC")
+    List<BlogPost> findPageAfter(LocalDateTime publishDate, Long id, Pageable pageable);
+
+    // 커서 목록 다음 페이지 (게시일 없는 글 구간)
+    @Query("SELECT b FROM BlogPost b WHERE b.publishDate IS NULL AND b.duplicateOf IS NULL AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<BlogPost> findUndatedPageAfter(Long id, Pageable pageable);
+
+    // 검색 조건 없는 전체 목록 (다른 포스트의 중복은 제외)
+    Page<BlogPost> findByDuplicateOfIsNull(Pageable pageable);
+
     // URL로 중복 체크
     boolean existsByUrl(String url);
 
+    // 주어진 URL 중 이미 저장된 URL 조회 (IN 쿼리 한 번으로 중복 체크)
+    @Query("SELECT b.url FROM BlogPost b WHERE b.url IN :urls")
+    Set<String> findExistingUrls(Collection<String> urls);
+
+    // 주어진 URL의 내용 지문 조회 (url, contentHash), 엔티티 전체를 읽지 않고 변경 여부 확인
+    @Query("SELECT b.url, b.contentHash FROM BlogPost b WHERE b.url IN :urls")
+    List<Object[]> findContentHashes(Collection<String> urls);
+
+    List<BlogPost> findByUrlIn(Collection<String> urls);
+
+    // 회사별 최근 게시일 (게시 주기 추정용)
+    @Query("SELECT b.publishDate FROM BlogPost b " +
+            "WHERE b.company = :company AND b.publishDate IS NOT NULL " +
+            "ORDER BY b.publishDate DESC")
+    List<LocalDateTime> findRecentPublishDates(String company, Pageable pageable);
+
+    // URL 인덱스 초기화용 (id, url), id 순서로 끊어서 조회
+    @Query("SELECT b.id, b.url FROM BlogPost b WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findUrlsAfter(Long afterId, Pageable pageable);
+
+    // 정규화 이전에 저장된 URL 갱신용
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.url = :url WHERE b.id = :id")
+    int updateUrl(Long id, String url);
+
+    // 전체 재색인용 id 목록, id 순서로 끊어서 조회 (OFFSET 없이 인덱스로 위치를 바로 찾음)
+    @Query("SELECT b.id FROM BlogPost b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    // 색인이 끝나지 않은 포스트 id (색인 실패 복구용), id 순서로 끊어서 조회
+    @Query("SELECT b.id FROM BlogPost b WHERE b.indexPending = true AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIndexPendingIdsAfter(Long afterId, Pageable pageable);
+
+    // 태그까지 한 번에 조회 (재색인 시 포스트마다 태그를 따로 조회하지 않도록)
+    @Query("SELECT DISTINCT b FROM BlogPost b LEFT JOIN FETCH b.tags WHERE b.id IN :ids")
+    List<BlogPost> findWithTagsByIdIn(Collection<Long> ids);
+
+    // 유사 문서 인덱스 초기화용 (id, simhash), id 순서로 끊어서 조회
+    @Query("SELECT b.id, b.simhash FROM BlogPost b " +
+            "WHERE b.simhash IS NOT NULL AND b.duplicateOf IS NULL AND b.id > :afterId " +
+            "ORDER BY b.id")
+    List<Object[]> findSimhashesAfter(Long afterId, Pageable pageable);
+
+    // 서명이 없는 기존 포스트 (id, content), 유사 문서 인덱스 초기화 시 서명을 채우는 용도
+    @Query("SELECT b.id, b.content FROM BlogPost b " +
+            "WHERE b.simhash IS NULL AND b.content IS NOT NULL AND b.id > :afterId " +
+            "ORDER BY b.id")
+    List<Object[]> findContentsWithoutSimhashAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.simhash = :simhash WHERE b.id = :id")
+    int updateSimhash(Long id, Long simhash);
+
+    // 태그 동시 출현 행렬 초기화용 (id, tag), id 구간별로 조회 (한 게시글의 태그가 나뉘지 않도록 id 범위로 끊음)
+    @Query("SELECT b.id, t FROM BlogPost b JOIN b.tags t " +
+            "WHERE b.duplicateOf IS NULL AND b.id > :fromId AND b.id <= :toId " +
+            "ORDER BY b.id")
+    List<Object[]> findTagsBetween(Long fromId, Long toId);
+
+    @Query("SELECT MAX(b.id) FROM BlogPost b")
+    Long findMaxId();
+
     // 회사별 게시물 수 카운트
     @Query("SELECT b.company, COUNT(b) " +
             "FROM BlogPost b " +
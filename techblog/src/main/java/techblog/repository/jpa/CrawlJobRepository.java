@@ -0,0 +1,40 @@
+package techblog.repository.jpa;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import techblog.domain.CrawlJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
+    /**
+     * 가져갈 수 있는 작업 (재시도 대기 시간이 지난 대기 중 작업이거나 lease가 만료된 실행 중 작업)
+     * 다른 인스턴스가 잠근 행은 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM CrawlJob j " +
+            "WHERE (:runId IS NULL OR j.runId = :runId) " +
+            "AND ((j.status = :pending AND (j.availableAt IS NULL OR j.availableAt <= :now)) " +
+            "OR (j.status = :running AND j.leaseUntil < :now)) " +
+            "ORDER BY j.id")
+    List<CrawlJob> findClaimable(String runId, CrawlJob.Status pending, CrawlJob.Status running,
+                                 LocalDateTime now, Pageable pageable);
+
+    boolean existsByRunId(String runId);
+
+    // 보관 기간이 지난 끝난 작업 id (끊어서 삭제)
+    @Query("SELECT j.id FROM CrawlJob j WHERE j.status IN :statuses AND j.updatedAt < :before ORDER BY j.id")
+    List<Long> findIdsFinishedBefore(List<CrawlJob.Status> statuses, LocalDateTime before, Pageable pageable);
+
+    // 같은 게시글의 재시도 작업이 이미 대기 중인지 확인
+    boolean existsByTypeAndUrlAndStatusIn(CrawlJob.Type type, String url, List<CrawlJob.Status> statuses);
+}
@@ -0,0 +1,195 @@
+package techblog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import techblog.crawler.CrawlMode;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 블로그별 크롤링 주기 스케줄러
+ * 블로그마다 다음 크롤링 시각과 주기를 Redis에 두고, 주기가 된 블로그만 크롤링한다
+ * - 새 글/수정된 글이 나오면 주기를 절반으로 줄이고, 없으면 두 배로 늘린다
+ * - 늘어나는 상한은 게시 주기(최근 게시 간격의 중앙값과 마지막 게시 이후 경과 시간 중 큰 값)의 1/4
+ *   자주 쓰는 블로그는 짧게 유지되고, 오래 글이 없는 블로그는 점점 드물게 확인한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdaptiveCrawlScheduler {
+    private static final String KEY_PREFIX = "crawler:schedule:";
+    private static final String FIELD_INTERVAL = "interval";
+    private static final String FIELD_NEXT = "next";
+    // 게시 주기 추정에 사용할 최근 게시글 수
+    private static final int CADENCE_SAMPLE_SIZE = 20;
+    // 게시 간격 동안 확인할 횟수
+    private static final int CHECKS_PER_POST = 4;
+
+    private final CrawlingService crawlingService;
+    private final CrawlCoordinator crawlCoordinator;
+    private final BlogPostJpaRepository blogPostRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${application.crawler.schedule.min-interval:30m}")
+    private Duration minInterval;
+
+    @Value("${application.crawler.schedule.max-interval:7d}")
+    private Duration maxInterval;
+
+    // 기록이 없는 블로그의 첫 주기
+    @Value("${application.crawler.schedule.initial-interval:4h}")
+    private Duration initialInterval;
+
+    private final ExecutorService scheduleExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("crawl-schedule-"));
+    private final AtomicBoolean crawling = new AtomicBoolean();
+
+    /**
+     * 주기가 된 블로그의 크롤링을 전용 스레드에서 실행 (이전 주기의 크롤링이 아직 진행 중이면 건너뜀)
+     * 스케줄러 스레드는 정의 파일 재로딩, 트렌드 갱신 등 다른 주기 작업과 공유하므로 여기서 직접 크롤링하지 않는다
+     */
+    @Scheduled(fixedDelayString = "${application.crawler.schedule.tick:PT5M}",
+            initialDelayString = "${application.crawler.schedule.tick:PT5M}")
+    public void crawlDueSources() {
+        if (!crawling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduleExecutor.execute(() -> {
+                try {
+                    crawlDue();
+                } finally {
+                    crawling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            crawling.set(false);
+        }
+    }
+
+    /**
+     * 주기가 된 블로그를 모아서 크롤링
+     * 블로그마다 (블로그, 예정 시각) 단위로 한 인스턴스만 실행하고, 실행을 맡으면 바로 다음 예정 시각을 현재 주기만큼 뒤로 옮긴다
+     * 작업이 연기되거나 남은 작업 재개로 실행되어 결과가 기록되지 않아도 주기가 지나면 다시 확인된다 (결과가 나오면 record가 다시 계산)
+     */
+    private void crawlDue() {
+        long now = System.currentTimeMillis();
+        List<String> due = new ArrayList<>();
+        for (String company : crawlingService.companies()) {
+            try {
+                long next = nextCrawlAt(company);
+                if (next > now) {
+                    continue;
+                }
+                Duration interval = currentInterval(company);
+                if (crawlCoordinator.tryStartCycle("source:" + company + ":" + next, interval)) {
+                    redisTemplate.opsForHash().put(KEY_PREFIX + company, FIELD_NEXT,
+                            String.valueOf(now + interval.toMillis()));
+                    due.add(company);
+                }
+            } catch (Exception e) {
+                log.warn("{} 크롤링 주기 확인 실패: {}", company, e.getMessage());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        CrawlSummary summary = crawlingService.crawlSources(CrawlMode.INCREMENTAL, UUID.randomUUID().toString(), due);
+        summary.results().forEach(this::record);
+    }
+
+    /**
+     * 크롤링 결과로 다음 주기 계산
+     */
+    private void record(CrawlResult result) {
+        String company = result.company();
+        try {
+            Duration interval = currentInterval(company);
+            Duration next;
+            if (result.status() != CrawlResult.Status.SUCCESS) {
+                // 실패는 게시 주기와 무관하므로 주기를 유지
+                next = interval;
+            } else if (result.saved() + result.updated() > 0) {
+                next = clamp(min(interval.dividedBy(2), cadenceInterval(company)));
+            } else {
+                next = clamp(min(interval.multipliedBy(2), max(cadenceInterval(company), interval)));
+            }
+
+            HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+            hash.putAll(KEY_PREFIX + company, Map.of(
+                    FIELD_INTERVAL, String.valueOf(next.toSeconds()),
+                    FIELD_NEXT, String.valueOf(System.currentTimeMillis() + next.toMillis())));
+            log.info("{} 다음 크롤링 주기: {}분 (신규 {}, 변경 {})",
+                    company, next.toMinutes(), result.saved(), result.updated());
+        } catch (Exception e) {
+            log.warn("{} 크롤링 주기 저장 실패: {}", company, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시 주기로 정한 확인 간격: max(최근 게시 간격의 중앙값, 마지막 게시 이후 경과 시간) / 4
+     */
+    private Duration cadenceInterval(String company) {
+        List<LocalDateTime> dates = blogPostRepository.findRecentPublishDates(company,
+                PageRequest.of(0, CADENCE_SAMPLE_SIZE));
+        if (dates.size() < 2) {
+            return initialInterval;
+        }
+
+        List<Duration> gaps = new ArrayList<>();
+        for (int i = 1; i < dates.size(); i++) {
+            gaps.add(Duration.between(dates.get(i), dates.get(i - 1)));
+        }
+        gaps.sort(null);
+        Duration medianGap = gaps.get(gaps.size() / 2);
+        Duration sinceLastPost = Duration.between(dates.get(0), LocalDateTime.now());
+        return clamp(max(medianGap, sinceLastPost).dividedBy(CHECKS_PER_POST));
+    }
+
+    private long nextCrawlAt(String company) {
+        Object next = redisTemplate.opsForHash().get(KEY_PREFIX + company, FIELD_NEXT);
+        // 기록이 없으면 바로 크롤링
+        return next != null ? Long.parseLong(next.toString()) : 0L;
+    }
+
+    private Duration currentInterval(String company) {
+        Object interval = redisTemplate.opsForHash().get(KEY_PREFIX + company, FIELD_INTERVAL);
+        return interval != null ? Duration.ofSeconds(Long.parseLong(interval.toString())) : initialInterval;
+    }
+
+    private Duration clamp(Duration interval) {
+        return max(minInterval, min(interval, maxInterval));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduleExecutor.shutdownNow();
+    }
+}
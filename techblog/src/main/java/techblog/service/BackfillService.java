@@ -0,0 +1,203 @@
+package techblog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import techblog.crawler.BackfillPage;
+import techblog.crawler.BlogCrawler;
+import techblog.crawler.CrawlMode;
+import techblog.crawler.definition.CrawlerRegistry;
+import techblog.domain.BackfillCheckpoint;
+import techblog.exception.BusinessException;
+import techblog.exception.ErrorCode;
+import techblog.repository.jpa.BackfillCheckpointRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 과거 글 수집(BACKFILL)
+ * 블로그마다 목록/피드의 다음 페이지를 따라가며 한 페이지씩 수집하고, 페이지마다 위치를 체크포인트로 저장한다
+ * 낮은 우선순위의 전용 스레드 하나에서 주기마다 블로그별로 몇 페이지씩만 진행하므로 일반 크롤링과 함께 돌아가며,
+ * 같은 블로그 lease를 사용해서 같은 블로그의 일반 크롤링과는 겹치지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BackfillService {
+    private final CrawlerRegistry crawlerRegistry;
+    private final CrawlPipeline crawlPipeline;
+    private final CrawlCoordinator crawlCoordinator;
+    private final BackfillCheckpointRepository checkpointRepository;
+
+    // 시작할 때 지정하지 않은 경우의 최대 페이지 수
+    @Value("${application.crawler.backfill.default-max-pages:100}")
+    private int defaultMaxPages;
+
+    // 블로그 하나당 주기마다 수집할 페이지 수
+    @Value("${application.crawler.backfill.pages-per-tick:5}")
+    private int pagesPerTick;
+
+    // 같은 블로그의 페이지 사이 대기 시간 (호스트별 요청 제한과 별도)
+    @Value("${application.crawler.backfill.page-delay:2s}")
+    private Duration pageDelay;
+
+    @Value("${application.crawler.backfill.max-failures:3}")
+    private int maxFailures;
+
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(lowPriorityThreadFactory());
+    private final AtomicBoolean stepping = new AtomicBoolean();
+
+    /**
+     * 과거 글 수집 시작 (진행 중이거나 멈춘 수집은 저장된 위치부터 이어서, 끝난 수집은 처음부터 다시)
+     */
+    @Transactional
+    public BackfillCheckpoint start(String company, Integer maxPages) {
+        BlogCrawler crawler = crawlerRegistry.find(company)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CRAWLER_NOT_FOUND, "크롤러 없음: " + company));
+        if (!crawler.supportsBackfill()) {
+            throw new BusinessException(ErrorCode.BACKFILL_NOT_SUPPORTED,
+                    company + " 크롤러는 과거 글 수집을 지원하지 않습니다");
+        }
+
+        int pages = maxPages != null && maxPages > 0 ? maxPages : defaultMaxPages;
+        BackfillCheckpoint checkpoint = checkpointRepository.findByCompany(company)
+                .orElseGet(() -> new BackfillCheckpoint(company, pages));
+        if (checkpoint.getStatus() == BackfillCheckpoint.Status.DONE) {
+            checkpoint.restart(pages);
+        } else {
+            checkpoint.resume(pages);
+        }
+        log.info("{} 과거 글 수집 시작 - {}/{}페이지부터", company, checkpoint.getPages(), pages);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    @Transactional
+    public BackfillCheckpoint pause(String company) {
+        BackfillCheckpoint checkpoint = checkpointRepository.findByCompany(company)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BACKFILL_NOT_FOUND, "과거 글 수집 없음: " + company));
+        checkpoint.pause();
+        return checkpoint;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BackfillCheckpoint> getCheckpoints() {
+        return checkpointRepository.findAll();
+    }
+
+    /**
+     * 진행 중인 과거 글 수집을 전용 스레드에서 진행 (이전 주기의 수집이 아직 진행 중이면 건너뜀)
+     * 스케줄러 스레드는 다른 주기 작업과 공유하므로 여기서 직접 수집하지 않는다
+     */
+    @Scheduled(fixedDelayString = "${application.crawler.backfill.tick:PT1M}",
+            initialDelayString = "${application.crawler.backfill.tick:PT1M}")
+    public void scheduleStep() {
+        if (!stepping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            backfillExecutor.execute(() -> {
+                try {
+                    step();
+                } finally {
+                    stepping.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stepping.set(false);
+        }
+    }
+
+    private void step() {
+        List<BackfillCheckpoint> running =
+                checkpointRepository.findByStatusOrderByUpdatedAtAsc(BackfillCheckpoint.Status.RUNNING);
+        for (BackfillCheckpoint checkpoint : running) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            String company = checkpoint.getCompany();
+            BlogCrawler crawler = crawlerRegistry.find(company).orElse(null);
+            if (crawler == null || !crawler.supportsBackfill()) {
+                continue;
+            }
+            if (!crawlCoordinator.tryAcquire(company)) {
+                log.debug("{} 블로그는 크롤링 중 - 과거 글 수집 다음 주기로", company);
+                continue;
+            }
+            try {
+                // lease를 잡은 뒤 다시 읽어서 다른 인스턴스가 진행한 위치부터 이어간다
+                checkpointRepository.findById(checkpoint.getId())
+                        .filter(latest -> latest.getStatus() == BackfillCheckpoint.Status.RUNNING)
+                        .ifPresent(latest -> crawlPages(crawler, latest));
+            } finally {
+                crawlCoordinator.release(company);
+            }
+        }
+    }
+
+    /**
+     * 주기당 pagesPerTick 페이지까지 수집하고 페이지마다 체크포인트 저장
+     */
+    private void crawlPages(BlogCrawler crawler, BackfillCheckpoint checkpoint) {
+        String company = checkpoint.getCompany();
+        for (int i = 0; i < pagesPerTick && checkpoint.getStatus() == BackfillCheckpoint.Status.RUNNING; i++) {
+            try {
+                if (i > 0) {
+                    Thread.sleep(pageDelay.toMillis());
+                }
+                BackfillPage page = crawler.backfill(checkpoint.getNextCursor());
+                CrawlPipeline.IngestionOutcome outcome = page.posts().isEmpty()
+                        ? new CrawlPipeline.IngestionOutcome(0, 0)
+                        : crawlPipeline.submit(company, CrawlMode.BACKFILL, page.posts()).join();
+                checkpoint.advance(page.nextCursor(), page.posts().size(), outcome.saved());
+                log.info("{} 과거 글 수집 {}/{}페이지 - 수집 {}, 저장 {}", company, checkpoint.getPages(),
+                        checkpoint.getMaxPages(), page.posts().size(), outcome.saved());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("{} 과거 글 수집 실패 - {}페이지: {}", company, checkpoint.getPages() + 1, e.getMessage());
+                checkpoint.fail(e.getMessage(), maxFailures);
+                save(checkpoint);
+                return;
+            }
+            save(checkpoint);
+        }
+        if (checkpoint.getStatus() == BackfillCheckpoint.Status.DONE) {
+            log.info("{} 과거 글 수집 완료 - {}페이지, 저장 {}건", company, checkpoint.getPages(), checkpoint.getSaved());
+        }
+    }
+
+    /**
+     * 진행 위치 저장 (수집하는 동안 API로 멈춘 경우 멈춘 상태 유지)
+     */
+    private void save(BackfillCheckpoint checkpoint) {
+        boolean paused = checkpointRepository.findById(checkpoint.getId())
+                .map(latest -> latest.getStatus() == BackfillCheckpoint.Status.PAUSED)
+                .orElse(false);
+        if (paused) {
+            checkpoint.pause();
+        }
+        checkpointRepository.save(checkpoint);
+    }
+
+    private static CustomizableThreadFactory lowPriorityThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("backfill-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        return threadFactory;
+    }
+
+    @PreDestroy
+    public void close() {
+        backfillExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,327 @@
+package techblog.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import techblog.domain.BlogPost;
+import techblog.domain.BlogPostDocument;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elasticsearch Bulk API 기반 인덱서
+ * 문서를 건수/크기/주기 기준으로 모아서 bulk 요청으로 보내고, 실패한 항목만 골라서 재시도한다
+ * 색인에 성공한 포스트만 색인 대기(indexPending) 표시를 해제하고, 재시도까지 실패한 포스트는 주기적으로 다시 색인한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlogPostIndexer {
+    private static final String INDEX_NAME = "blog-posts";
+    private static final int REINDEX_PAGE_SIZE = 500;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final BlogPostJpaRepository blogPostRepository;
+    private final MeterRegistry meterRegistry;
+    private final SearchIndexGeneration searchIndexGeneration;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${application.elasticsearch.bulk.max-operations:500}")
+    private int maxOperations;
+
+    @Value("${application.elasticsearch.bulk.max-size:5MB}")
+    private DataSize maxSize;
+
+    @Value("${application.elasticsearch.bulk.flush-interval:5s}")
+    private Duration flushInterval;
+
+    // 동시에 진행 가능한 bulk 요청 수, 초과하면 add()가 블로킹되어 생산자 속도를 늦춘다
+    @Value("${application.elasticsearch.bulk.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    @Value("${application.elasticsearch.bulk.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${application.elasticsearch.bulk.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    private BulkIngester<IndexingContext> ingester;
+    private ScheduledExecutorService retryScheduler;
+    private final Map<Long, Long> bulkStartTimes = new ConcurrentHashMap<>();
+
+    private Counter indexedCounter;
+    private Counter retriedCounter;
+    private Counter rejectedCounter;
+    private Timer bulkLatency;
+    // 재색인 묶음마다 여는 짧은 읽기 전용 트랜잭션
+    private TransactionTemplate readOnlyTransaction;
+
+    /**
+     * bulk 요청 하나에 담긴 문서와 시도 횟수
+     */
+    private record IndexingContext(BlogPostDocument document, int attempt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        indexedCounter = meterRegistry.counter("elasticsearch.bulk.documents", "result", "indexed");
+        retriedCounter = meterRegistry.counter("elasticsearch.bulk.documents", "result", "retried");
+        rejectedCounter = meterRegistry.counter("elasticsearch.bulk.documents", "result", "rejected");
+        bulkLatency = Timer.builder("elasticsearch.bulk.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("es-bulk-retry-"));
+        ingester = BulkIngester.of(b -> b
+                .client(elasticsearchClient)
+                .maxOperations(maxOperations)
+                .maxSize(maxSize.toBytes())
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .flushInterval(flushInterval.toMillis(), TimeUnit.MILLISECONDS)
+                .listener(new IndexingListener())
+        );
+
+        Gauge.builder("elasticsearch.bulk.pending", ingester, BulkIngester::pendingOperations)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 포스트들을 인덱싱 대기열에 추가 (다른 포스트의 중복으로 연결된 포스트는 제외)
+     */
+    public void index(Collection<BlogPost> posts) {
+        posts.forEach(this::index);
+    }
+
+    public void index(BlogPost post) {
+        if (post.isDuplicate()) {
+            return;
+        }
+        add(new IndexingContext(BlogPostDocument.from(post), 1));
+    }
+
+    /**
+     * 대기 중인 문서를 즉시 전송
+     */
+    public void flush() {
+        ingester.flush();
+    }
+
+    /**
+     * 문서 삭제 (문서 id는 포스트 URL), 대기열을 거치지 않고 바로 전송
+     */
+    public void delete(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            List<BulkOperation> operations = ids.stream()
+                    .map(id -> BulkOperation.of(op -> op.delete(d -> d.index(INDEX_NAME).id(id))))
+                    .toList();
+            BulkResponse response = elasticsearchClient.bulk(b -> b.operations(operations));
+            if (response.errors()) {
+                log.warn("Elasticsearch 문서 일부 삭제 실패 - {} 건 중 {} 건", ids.size(),
+                        response.items().stream().filter(item -> item.error() != null).count());
+            }
+        } catch (IOException e) {
+            log.warn("Elasticsearch 문서 삭제 실패 - {} 건: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * DB의 모든 포스트를 다시 인덱싱 (전체 재색인, ES 장애 후 복구용)
+     * id 순서로 끊어서(id > 마지막 id) 읽고, 묶음마다 짧은 읽기 전용 트랜잭션을 써서 읽은 엔티티가 메모리에 쌓이지 않는다
+     */
+    public long reindexAll() {
+        long count = reindex(lastId -> blogPostRepository.findIdsAfter(lastId, PageRequest.of(0, REINDEX_PAGE_SIZE)));
+        log.info("전체 재색인 요청 완료 - {} 건", count);
+        return count;
+    }
+
+    /**
+     * 색인 대기 표시가 남은 포스트를 다시 색인 (저장 후 색인 요청이 실패했거나 재시도까지 거부된 포스트)
+     */
+    @Scheduled(fixedDelayString = "${application.elasticsearch.reindex-pending.interval:PT10M}",
+            initialDelayString = "${application.elasticsearch.reindex-pending.interval:PT10M}")
+    public void reindexPending() {
+        try {
+            long count = reindex(lastId ->
+                    blogPostRepository.findIndexPendingIdsAfter(lastId, PageRequest.of(0, REINDEX_PAGE_SIZE)));
+            if (count > 0) {
+                log.info("색인 대기 포스트 재색인 요청 - {} 건", count);
+            }
+        } catch (Exception e) {
+            log.warn("색인 대기 포스트 재색인 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    private long reindex(LongFunction<List<Long>> nextIds) {
+        long count = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            ids = nextIds.apply(lastId);
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            readOnlyTransaction.executeWithoutResult(status ->
+                    index(blogPostRepository.findWithTagsByIdIn(batch)));
+            lastId = ids.get(ids.size() - 1);
+            count += ids.size();
+        } while (ids.size() == REINDEX_PAGE_SIZE);
+
+        flush();
+        return count;
+    }
+
+    /**
+     * 색인된 포스트의 색인 대기 표시 해제
+     * 색인한 뒤 내용이 다시 바뀐 포스트(해시가 다름)는 그 변경분이 아직 색인되지 않았으므로 그대로 둔다
+     */
+    private void markIndexed(List<BlogPostDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE blog_posts SET index_pending = 0 WHERE url = ? AND content_hash <=> ?",
+                    documents.stream()
+                            .map(document -> new Object[]{document.getId(), document.getContentHash()})
+                            .toList());
+        } catch (Exception e) {
+            // 표시가 남으면 다음 재색인 주기에 한 번 더 색인될 뿐이다
+            log.warn("색인 대기 표시 해제 실패 - {} 건: {}", documents.size(), e.getMessage());
+        }
+    }
+
+    private void add(IndexingContext context) {
+        BlogPostDocument document = context.document();
+        ingester.add(BulkOperation.of(op -> op
+                .index(idx -> idx
+                        .index(INDEX_NAME)
+                        .id(document.getId())
+                        .document(document)
+                )
+        ), context);
+    }
+
+    private void retryLater(IndexingContext context, String reason) {
+        if (context.attempt() >= maxRetries) {
+            rejectedCounter.increment();
+            log.error("Elasticsearch 인덱싱 최종 실패 - id: {}, 시도: {}회, 원인: {}",
+                    context.document().getId(), context.attempt(), reason);
+            return;
+        }
+
+        retriedCounter.increment();
+        long delay = retryBackoff.toMillis() << (context.attempt() - 1);
+        retryScheduler.schedule(() -> {
+            try {
+                add(new IndexingContext(context.document(), context.attempt() + 1));
+            } catch (Exception e) {
+                rejectedCounter.increment();
+                log.error("Elasticsearch 재시도 등록 실패 - id: {}, 원인: {}", context.document().getId(), e.getMessage());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    @PreDestroy
+    public void close() {
+        ingester.close();
+        retryScheduler.shutdown();
+    }
+
+    private class IndexingListener implements BulkListener<IndexingContext> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<IndexingContext> contexts) {
+            bulkStartTimes.put(executionId, System.nanoTime());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<IndexingContext> contexts,
+                              BulkResponse response) {
+            recordLatency(executionId);
+
+            List<BulkResponseItem> items = response.items();
+            List<BlogPostDocument> indexed = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                IndexingContext context = contexts.get(i);
+                if (item.error() == null) {
+                    indexed.add(context.document());
+                    continue;
+                }
+
+                if (isRetryable(item.status())) {
+                    retryLater(context, item.error().reason());
+                } else {
+                    rejectedCounter.increment();
+                    log.error("Elasticsearch 인덱싱 거부 - id: {}, status: {}, 원인: {}",
+                            item.id(), item.status(), item.error().reason());
+                }
+            }
+            indexedCounter.increment(indexed.size());
+            if (!indexed.isEmpty()) {
+                // 색인된 문서가 있으면 검색 결과 캐시를 새 세대로 전환
+                searchIndexGeneration.bump();
+                markIndexed(indexed);
+            }
+            log.debug("bulk 인덱싱 완료 - 요청 {}: 성공 {}건 / 전체 {}건", executionId, indexed.size(), items.size());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<IndexingContext> contexts,
+                              Throwable failure) {
+            recordLatency(executionId);
+            log.warn("bulk 요청 실패 - 요청 {}: {}건, 원인: {}", executionId, contexts.size(), failure.getMessage());
+            contexts.forEach(context -> retryLater(context, failure.getMessage()));
+        }
+
+        private void recordLatency(long executionId) {
+            Long startedAt = bulkStartTimes.remove(executionId);
+            if (startedAt != null) {
+                bulkLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
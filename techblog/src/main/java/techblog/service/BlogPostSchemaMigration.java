@@ -0,0 +1,108 @@
+package techblog.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ddl-auto(update)가 처리하지 못하는 blog_posts 스키마 변경을 시작 시점에 맞춘다
+ * - id 시퀀스: IDENTITY에서 시퀀스(MySQL에서는 blog_posts_seq 테이블)로 바꾸면 시퀀스가 1부터 시작하므로 MAX(id) 뒤로 올린다
+ * - URL 유니크 제약: 같은 URL의 포스트가 이미 있으면 ddl-auto가 제약 생성에 실패하므로, 가장 먼저 저장된 포스트만 남기고 만든다
+ * 스키마 생성(ddl-auto) 뒤, 크롤링이 시작되기 전에 실행되며 이미 맞춰진 상태면 아무것도 바꾸지 않는다
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class BlogPostSchemaMigration {
+    private static final String SEQUENCE_TABLE = "blog_posts_seq";
+    private static final String URL_CONSTRAINT = "uk_blog_posts_url";
+    // BlogPost의 allocationSize, 이미 할당받은 구간이 MAX(id)와 겹치지 않도록 한 구간만큼 더 올린다
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            seedSequence();
+        } catch (Exception e) {
+            log.error("blog_posts id 시퀀스 맞추기 실패, 새 포스트 저장 시 id가 겹칠 수 있음: {}", e.getMessage());
+        }
+        try {
+            ensureUniqueUrl();
+        } catch (Exception e) {
+            log.error("blog_posts URL 유니크 제약 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시퀀스 다음 값을 MAX(id) + allocationSize 이상으로 올린다 (낮추지는 않음)
+     */
+    private void seedSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM blog_posts", Long.class);
+        long floor = (maxId != null ? maxId : 0) + ALLOCATION_SIZE + 1;
+
+        List<Long> current = jdbcTemplate.queryForList("SELECT next_val FROM " + SEQUENCE_TABLE, Long.class);
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + SEQUENCE_TABLE + " (next_val) VALUES (?)", floor);
+        } else if (current.get(0) < floor) {
+            jdbcTemplate.update("UPDATE " + SEQUENCE_TABLE + " SET next_val = ? WHERE next_val < ?", floor, floor);
+        } else {
+            return;
+        }
+        log.info("blog_posts id 시퀀스를 {}부터 시작하도록 조정 (MAX(id): {})", floor, maxId);
+    }
+
+    private void ensureUniqueUrl() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'blog_posts' AND index_name = ?",
+                Integer.class, URL_CONSTRAINT);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        List<Map<String, Object>> groups = jdbcTemplate.queryForList(
+                "SELECT url, MIN(id) AS keep_id FROM blog_posts WHERE url IS NOT NULL GROUP BY url HAVING COUNT(*) > 1");
+        long removed = 0;
+        for (Map<String, Object> group : groups) {
+            removed += removeDuplicates((String) group.get("url"), ((Number) group.get("keep_id")).longValue());
+        }
+        jdbcTemplate.execute("ALTER TABLE blog_posts ADD CONSTRAINT " + URL_CONSTRAINT + " UNIQUE (url)");
+        log.info("blog_posts URL 유니크 제약 생성 - 같은 URL로 중복 저장된 포스트 {}건 정리", removed);
+    }
+
+    /**
+     * 같은 URL의 포스트 중 keepId만 남긴다 (북마크와 유사 문서 연결은 남기는 포스트로 옮김)
+     */
+    private int removeDuplicates(String url, long keepId) {
+        Integer removed = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM blog_posts WHERE url = ? AND id <> ?", Long.class, url, keepId);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("keepId", keepId);
+            namedJdbcTemplate.update("UPDATE bookmarks SET post_id = :keepId WHERE post_id IN (:ids)", params);
+            namedJdbcTemplate.update("UPDATE blog_posts SET duplicate_of = " +
+                    "CASE WHEN id = :keepId THEN NULL ELSE :keepId END WHERE duplicate_of IN (:ids)", params);
+            namedJdbcTemplate.update("DELETE FROM blog_post_tags WHERE blog_post_id IN (:ids)", params);
+            return namedJdbcTemplate.update("DELETE FROM blog_posts WHERE id IN (:ids)", params);
+        });
+        return removed != null ? removed : 0;
+    }
+}
@@ -3,35 +3,43 @@ package techblog.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.FieldSort;
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
-import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
-import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import techblog.config.CacheConfig;
 import techblog.domain.BlogPost;
 import techblog.dto.request.BlogSearchRequest;
 import techblog.dto.response.BlogPostResponse;
+import techblog.dto.response.CursorPageResponse;
+import techblog.dto.response.RelatedTagResponse;
 import techblog.dto.response.TrendResponse;
+import techblog.exception.BusinessException;
+import techblog.exception.ErrorCode;
 import techblog.repository.jpa.BlogPostJpaRepository;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 // 검색 쿼리 관련 추가 import
@@ -41,85 +49,51 @@ import co.elastic.clients.json.JsonData;
 @RequiredArgsConstructor
 @Slf4j
 public class BlogService {
+    private static final String INDEX_NAME = "blog-posts";
+
     private final BlogPostJpaRepository blogPostRepository;
     private final ElasticsearchClient elasticsearchClient;
     private final RedisTemplate<String, String> redisTemplate;
+    private final SearchResultCache searchResultCache;
+    private final TrendSnapshotService trendSnapshotService;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
+    private final ObjectMapper objectMapper;
+
+    // 커서 검색의 point-in-time 유지 시간 (다음 페이지 요청 사이 간격보다 길게)
+    @Value("${application.search.cursor.keep-alive:5m}")
+    private Duration cursorKeepAlive;
+
+    // 한 번에 조회할 수 있는 최대 개수 (더 큰 size는 이 값으로 줄임)
+    @Value("${application.search.max-page-size:100}")
+    private int maxPageSize;
 
-    @Cacheable(value = "recentPosts", key = "#size")
+    @Cacheable(value = CacheConfig.RECENT_POSTS, key = "#size")
     public List<BlogPostResponse> getRecentPosts(int size) {
-        return blogPostRepository.findTop10ByOrderByPublishDateDesc()
+        return blogPostRepository.findTop10ByDuplicateOfIsNullOrderByPublishDateDesc()
                 .stream()
                 .map(BlogPostResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 검색 결과는 검색 인덱스 세대별로 캐시 (새 글이 색인되면 다음 검색부터 새 결과)
+     * 검색 조건이 없으면 MySQL에서 바로 조회하며, 세대와 무관하게 바뀌는 결과라 캐시하지 않는다
+     */
     public Page<BlogPostResponse> searchPosts(BlogSearchRequest request, Pageable pageable) {
         if (!hasSearchConditions(request)) {
-            return blogPostRepository.findAll(pageable).map(BlogPostResponse::from);
+            return blogPostRepository.findByDuplicateOfIsNull(pageable).map(BlogPostResponse::from);
         }
+        return searchResultCache.get(request, pageable, () -> search(request, pageable));
+    }
 
+    private Page<BlogPostResponse> search(BlogSearchRequest request, Pageable pageable) {
         try {
             var searchRequest = SearchRequest.of(s -> s
-                    .index("blog-posts")
+                    .index(INDEX_NAME)
                     .from(pageable.getPageNumber() * pageable.getPageSize())
                     .size(pageable.getPageSize())
                     .sort(createSortOptions())
-                    .query(q -> {
-                        // Bool 쿼리 빌더 생성
-                        BoolQuery.Builder boolBuilder = new BoolQuery.Builder();
-
-                        // 키워드 검색
-                        if (StringUtils.hasText(request.keyword())) {
-                            boolBuilder.must(must -> must
-                                    .multiMatch(m -> m
-                                            .fields("title^2", "content")
-                                            .query(request.keyword())
-                                            .type(TextQueryType.BestFields)
-                                    )
-                            );
-                        }
-
-                        // 회사 필터
-                        if (!CollectionUtils.isEmpty(request.companies())) {
-                            boolBuilder.filter(f -> f
-                                    .terms(t -> t
-                                            .field("company")
-                                            .terms(t2 -> t2
-                                                    .value(request.companies().stream()
-                                                            .map(FieldValue::of)
-                                                            .collect(Collectors.toList()))
-                                            )
-                                    )
-                            );
-                        }
-
-                        // 태그 필터
-                        if (!CollectionUtils.isEmpty(request.tags())) {
-                            boolBuilder.filter(f -> f
-                                    .terms(t -> t
-                                            .field("tags")
-                                            .terms(t2 -> t2
-                                                    .value(request.tags().stream()
-                                                            .map(FieldValue::of)
-                                                            .collect(Collectors.toList()))
-                                            )
-                                    )
-                            );
-                        }
-
-                        // 날짜 범위 필터
-                        if (request.startDate() != null && request.endDate() != null) {
-                            boolBuilder.filter(f -> f
-                                    .range(r -> r
-                                            .field("publishDate")
-                                            .gte(JsonData.of(request.startDate().toString()))
-                                            .lte(JsonData.of(request.endDate().toString()))
-                                    )
-                            );
-                        }
-
-                        return q.bool(boolBuilder.build());
-                    })
+                    .query(buildQuery(request))
             );
 
             // 검색 실행
@@ -142,203 +116,194 @@ public class BlogService {
     }
 
 
+    /**
+     * 커서 기반 검색 (무한 스크롤용, 페이지 깊이와 관계없이 비용이 일정)
+     * 검색 조건이 있으면 ES point-in-time + search_after, 없으면 MySQL (publishDate, id) keyset으로 다음 페이지를 찾는다
+     * 전체 건수는 계산하지 않으며, 커서 결과는 캐시하지 않는다 (size는 최대 max-page-size)
+     */
+    public CursorPageResponse<BlogPostResponse> searchPostsByCursor(BlogSearchRequest request, String cursor, int requestedSize) {
+        if (requestedSize < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "size는 1 이상이어야 합니다");
+        }
+        int size = Math.min(requestedSize, maxPageSize);
+        SearchCursor position = cursor != null && !cursor.isBlank()
+                ? SearchCursor.decode(cursor, request, objectMapper)
+                : null;
+        if (!hasSearchConditions(request)) {
+            if (position != null && position.isSearch()) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return keysetPage(request, position, size);
+        }
+        if (position != null && !position.isSearch()) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        return searchAfterPage(request, position, size);
+    }
 
-    @Cacheable(value = "trends", key = "'weekly'")
-    public TrendResponse getWeeklyTrends() {
-        try {
-            LocalDateTime startDate = LocalDateTime.now().minusWeeks(1);
-
-            // Aggregation 쿼리 생성
-            SearchRequest.Builder searchBuilder = new SearchRequest.Builder()
-                    .index("blog-posts")
-                    .size(0) // aggregation만 필요하므로 hits는 불필요
-                    .aggregations("tags", a -> a
-                            .terms(t -> t
-                                    .field("tags")
-                                    .size(20)
-                            )
-                            .aggregations("weekly", a2 -> a2
-                                    .dateHistogram(h -> h
-                                            .field("publishDate")
-                                            .calendarInterval(CalendarInterval.Week)
-                                    )
-                            )
-                    )
-                    .query(q -> q
-                            .range(r -> r
-                                    .field("publishDate")
-                                    .from(startDate.toString())
-                            )
-                    );
+    private CursorPageResponse<BlogPostResponse> keysetPage(BlogSearchRequest request, SearchCursor position, int size) {
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<BlogPost> posts;
+        if (position == null) {
+            posts = blogPostRepository.findFirstPage(limit);
+        } else if (position.publishDate() != null) {
+            posts = blogPostRepository.findPageAfter(position.publishDate(), position.id(), limit);
+        } else {
+            posts = blogPostRepository.findUndatedPageAfter(position.id(), limit);
+        }
 
-            SearchResponse<BlogPost> response = elasticsearchClient.search(
-                    searchBuilder.build(),
-                    BlogPost.class
-            );
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            BlogPost last = posts.get(size - 1);
+            nextCursor = SearchCursor.ofKeyset(request, last.getPublishDate(), last.getId()).encode(objectMapper);
+        }
+        return CursorPageResponse.of(posts.stream().map(BlogPostResponse::from).toList(), size, nextCursor);
+    }
 
-            // 결과 처리
-            List<TrendResponse.KeywordTrend> keywordTrends = processTagAggregations(response);
-            Map<String, List<String>> companyTrends = aggregateCompanyTrends(startDate);
+    private CursorPageResponse<BlogPostResponse> searchAfterPage(BlogSearchRequest request, SearchCursor position, int size) {
+        Time keepAlive = Time.of(t -> t.time(cursorKeepAlive.toSeconds() + "s"));
+        try {
+            // 첫 페이지에서 point-in-time을 열어서 이후 페이지가 같은 시점의 인덱스를 보도록 한다
+            String pitId = position != null
+                    ? position.pitId()
+                    : elasticsearchClient.openPointInTime(o -> o.index(INDEX_NAME).keepAlive(keepAlive)).id();
+
+            // point-in-time을 쓰면 정렬 값에 _shard_doc이 자동으로 붙어 게시일이 같은 글도 순서가 정해진다
+            SearchRequest searchRequest = SearchRequest.of(s -> {
+                s.pit(p -> p.id(pitId).keepAlive(keepAlive))
+                        .size(size + 1)
+                        .trackTotalHits(t -> t.enabled(false))
+                        .sort(createSortOptions())
+                        .query(buildQuery(request));
+                if (position != null) {
+                    s.searchAfter(position.searchAfterValues());
+                }
+                return s;
+            });
+            SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
 
-            return new TrendResponse(keywordTrends, companyTrends, LocalDateTime.now());
+            List<Hit<BlogPost>> hits = response.hits().hits();
+            String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+            String nextCursor = null;
+            if (hits.size() > size) {
+                hits = hits.subList(0, size);
+                nextCursor = SearchCursor.ofSearch(request, nextPitId, hits.get(size - 1).sort())
+                        .encode(objectMapper);
+            } else {
+                closePointInTime(nextPitId);
+            }
+            return CursorPageResponse.of(
+                    hits.stream().map(hit -> BlogPostResponse.from(hit.source())).toList(), size, nextCursor);
 
+        } catch (ElasticsearchException e) {
+            if (position != null && e.status() == 404) {
+                throw new BusinessException(ErrorCode.CURSOR_EXPIRED);
+            }
+            log.error("Error while searching posts by cursor", e);
+            throw new RuntimeException("Search failed", e);
         } catch (IOException e) {
-            log.error("Error while getting trends", e);
-            throw new RuntimeException("Failed to get trends", e);
+            log.error("Error while searching posts by cursor", e);
+            throw new RuntimeException("Search failed", e);
         }
     }
 
-    private List<SortOptions> createSortOptions() {
-        return List.of(
-                SortOptions.of(s -> s
-                        .field(FieldSort.of(f -> f
-                                .field("publishDate")
-                                .order(SortOrder.Desc)
-                        )))
-        );
+    /**
+     * 마지막 페이지까지 읽은 point-in-time은 keep-alive를 기다리지 않고 바로 닫는다
+     */
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            log.debug("point-in-time 닫기 실패: {}", e.getMessage());
+        }
     }
 
-    private List<TrendResponse.KeywordTrend> processTagAggregations(SearchResponse<BlogPost> response) {
-        var tagsAggregation = response.aggregations().get("tags");
-
-        return tagsAggregation.sterms().buckets().array().stream()
-                .map(bucket -> {
-                    String tag = bucket.key()._get().toString();  // key 추출 방식 수정
-                    long count = bucket.docCount();
-                    double growthRate = calculateGrowthRate(bucket);
-                    return new TrendResponse.KeywordTrend(
-                            tag,
-                            count,
-                            growthRate,
-                            findRelatedTags(tag)
-                    );
-                })
-                .collect(Collectors.toList());
+    /**
+     * 백그라운드에서 미리 계산한 주간 트렌드 스냅샷
+     */
+    public TrendResponse getWeeklyTrends() {
+        return trendSnapshotService.getWeeklyTrends();
     }
 
-
-    private double calculateGrowthRate(StringTermsBucket bucket) {
-        var weeklyBuckets = bucket.aggregations()
-                .get("weekly")
-                .dateHistogram()
-                .buckets()
-                .array();
-
-        if (weeklyBuckets.size() < 2) return 0.0;  // length 대신 size() 사용
-
-        var currentBucket = weeklyBuckets.get(weeklyBuckets.size() - 1);  // array 인덱싱 대신 get() 사용
-        var previousBucket = weeklyBuckets.get(weeklyBuckets.size() - 2);
-
-        long currentCount = currentBucket.docCount();  // docCount는 그대로 사용 가능
-        long previousCount = previousBucket.docCount();
-
-        if (previousCount == 0) return 100.0;
-        return ((currentCount - previousCount) / (double) previousCount) * 100;
+    /**
+     * 함께 쓰인 태그 (메모리의 태그 동시 출현 행렬에서 계산, ES 조회 없음)
+     */
+    public List<RelatedTagResponse> getRelatedTags(String tag, int size, TagCooccurrenceIndex.Metric metric) {
+        return tagCooccurrenceIndex.findRelated(tag, size, metric).stream()
+                .map(RelatedTagResponse::from)
+                .toList();
     }
 
-    private List<String> findRelatedTags(String tag) {
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index("blog-posts")
-                    .size(0)
-                    .query(q -> q
-                            .term(t -> t
-                                    .field("tags")
-                                    .value(tag)
-                            )
-                    )
-                    .aggregations("related_tags", a -> a
-                            .terms(t -> t
-                                    .field("tags")
-                                    .size(6)
-                                    .exclude(e -> e.terms(List.of(tag))) // TermsExclude 대신 직접 exclude 설정
-                            )
+    /**
+     * 검색 조건으로 bool 쿼리 생성 (페이지 검색과 커서 검색에서 공통 사용)
+     */
+    private Query buildQuery(BlogSearchRequest request) {
+        // Bool 쿼리 빌더 생성
+        BoolQuery.Builder boolBuilder = new BoolQuery.Builder();
+
+        // 키워드 검색
+        if (StringUtils.hasText(request.keyword())) {
+            boolBuilder.must(must -> must
+                    .multiMatch(m -> m
+                            .fields("title^2", "content")
+                            .query(request.keyword())
+                            .type(TextQueryType.BestFields)
                     )
             );
-
-            SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
-
-            return response.aggregations()
-                    .get("related_tags")
-                    .sterms()
-                    .buckets()
-                    .array()
-                    .stream()
-                    .map(bucket -> bucket.key()._get().toString())  // key 추출 방식 수정
-                    .collect(Collectors.toList());
-
-        } catch (IOException e) {
-            log.error("Error while finding related tags", e);
-            throw new RuntimeException("Failed to find related tags", e);
         }
-    }
 
-    private Map<String, List<String>> aggregateCompanyTrends(LocalDateTime startDate) {
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index("blog-posts")
-                    .size(0)
-                    .query(q -> q
-                            .range(r -> r
-                                    .field("publishDate")
-                                    .from(startDate.toString())
-                            )
-                    )
-                    .aggregations("companies", a -> a
-                            .terms(t -> t
-                                    .field("company")
-                                    .size(20)
+        // 회사 필터
+        if (!CollectionUtils.isEmpty(request.companies())) {
+            boolBuilder.filter(f -> f
+                    .terms(t -> t
+                            .field("company")
+                            .terms(t2 -> t2
+                                    .value(request.companies().stream()
+                                            .map(FieldValue::of)
+                                            .collect(Collectors.toList()))
                             )
                     )
             );
-
-            SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
-
-            Map<String, List<String>> companyTrends = new HashMap<>();
-            var companyBuckets = response.aggregations()
-                    .get("companies")
-                    .sterms()
-                    .buckets()
-                    .array();
-
-            for (var bucket : companyBuckets) {
-                String company = bucket.key()._get().toString();  // key 추출 방식 수정
-                List<String> posts = bucket.docCount() > 0
-                        ? findCompanyPosts(company)
-                        : List.of();
-                companyTrends.put(company, posts);
-            }
-
-            return companyTrends;
-
-        } catch (IOException e) {
-            log.error("Error while aggregating company trends", e);
-            throw new RuntimeException("Failed to aggregate company trends", e);
         }
-    }
 
-    private List<String> findCompanyPosts(String company) {
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index("blog-posts")
-                    .query(q -> q
-                            .term(t -> t
-                                    .field("company")
-                                    .value(v -> v.stringValue(company))
+        // 태그 필터
+        if (!CollectionUtils.isEmpty(request.tags())) {
+            boolBuilder.filter(f -> f
+                    .terms(t -> t
+                            .field("tags")
+                            .terms(t2 -> t2
+                                    .value(request.tags().stream()
+                                            .map(FieldValue::of)
+                                            .collect(Collectors.toList()))
                             )
                     )
             );
+        }
 
-            SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
+        // 날짜 범위 필터
+        if (request.startDate() != null && request.endDate() != null) {
+            boolBuilder.filter(f -> f
+                    .range(r -> r
+                            .field("publishDate")
+                            .gte(JsonData.of(request.startDate().toString()))
+                            .lte(JsonData.of(request.endDate().toString()))
+                    )
+            );
+        }
 
-            return response.hits().hits().stream()
-                    .map(hit -> hit.source().getTitle()) // 제목을 추출하여 반환
-                    .collect(Collectors.toList());
+        return Query.of(q -> q.bool(boolBuilder.build()));
+    }
 
-        } catch (IOException e) {
-            log.error("Error while fetching company posts", e);
-            return List.of();
-        }
+    private List<SortOptions> createSortOptions() {
+        return List.of(
+                SortOptions.of(s -> s
+                        .field(FieldSort.of(f -> f
+                                .field("publishDate")
+                                .order(SortOrder.Desc)
+                        )))
+        );
     }
 
     private boolean hasSearchConditions(BlogSearchRequest request) {
@@ -0,0 +1,79 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 여러 인스턴스 간 크롤링 조정 (Redis)
+ * - 주기 실행: 같은 주기의 작업 생성은 한 인스턴스만 하고, 나머지 인스턴스는 생성된 작업을 나눠서 가져간다
+ * - 블로그 lease: 같은 블로그를 두 인스턴스가 동시에 크롤링하지 않도록 블로그 단위로 소유권을 잡는다
+ * Redis 장애 시에는 조정 없이 진행한다 (중복 저장은 URL 유니크 제약과 중복 제거 단계에서 걸러짐)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlCoordinator {
+    private static final String CYCLE_KEY_PREFIX = "crawler:cycle:";
+    private static final String LEASE_KEY_PREFIX = "crawler:lease:";
+    private static final Duration CYCLE_TTL = Duration.ofHours(6);
+
+    // 소유자가 같을 때만 삭제 (lease 만료 후 다른 인스턴스가 잡은 lease를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${application.crawler.jobs.lease:15m}")
+    private Duration lease;
+
+    /**
+     * 이 주기의 작업 생성을 맡았으면 true (주기마다 한 인스턴스만 true)
+     */
+    public boolean tryStartCycle(String cycleId) {
+        return tryStartCycle(cycleId, CYCLE_TTL);
+    }
+
+    /**
+     * 주기 길이에 맞춘 유지 시간으로 주기 시작 (짧은 주기가 긴 유지 시간에 막히지 않도록)
+     */
+    public boolean tryStartCycle(String cycleId, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(CYCLE_KEY_PREFIX + cycleId, CrawlJobService.INSTANCE_ID, ttl));
+        } catch (Exception e) {
+            log.warn("크롤링 주기 조정 실패, 이 인스턴스에서 작업 생성: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 블로그 lease 획득, 다른 인스턴스가 크롤링 중이면 false
+     */
+    public boolean tryAcquire(String company) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY_PREFIX + company, CrawlJobService.INSTANCE_ID, lease));
+        } catch (Exception e) {
+            log.warn("{} 블로그 lease 획득 실패, 조정 없이 진행: {}", company, e.getMessage());
+            return true;
+        }
+    }
+
+    public void release(String company) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + company), CrawlJobService.INSTANCE_ID);
+        } catch (Exception e) {
+            // 해제하지 못한 lease는 만료 시간이 지나면 사라짐
+            log.warn("{} 블로그 lease 해제 실패: {}", company, e.getMessage());
+        }
+    }
+}
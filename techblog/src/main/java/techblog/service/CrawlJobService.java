@@ -0,0 +1,158 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import techblog.crawler.ArticleRetryQueue;
+import techblog.crawler.CrawlMode;
+import techblog.domain.CrawlJob;
+import techblog.repository.jpa.CrawlJobRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * MySQL 기반 크롤링 작업 큐
+ * 실행마다 블로그별 작업을 저장해 두고 lease를 잡은 작업만 실행하므로, 재시작 후에도 끝나지 않은 작업부터 이어서 실행한다
+ * 실패한 게시글은 ARTICLE 작업으로 따로 쌓여서 개별로 재시도된다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlJobService implements ArticleRetryQueue {
+    // 실행 중인 프로세스 식별자 (lease 소유자)
+    static final String INSTANCE_ID =
+            ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final CrawlJobRepository crawlJobRepository;
+
+    // 크롤러 제한 시간보다 길게 잡아서 정상 실행 중인 작업을 다른 작업자가 가져가지 않도록 한다
+    @Value("${application.crawler.jobs.lease:15m}")
+    private Duration lease;
+
+    @Value("${application.crawler.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    // 실패한 작업을 바로 다시 가져가지 않도록 시도마다 두 배씩 늘어나는 대기 시간
+    @Value("${application.crawler.jobs.retry-backoff:1m}")
+    private Duration retryBackoff;
+
+    @Value("${application.crawler.jobs.retry-max-backoff:30m}")
+    private Duration retryMaxBackoff;
+
+    // 끝난 작업(DONE/FAILED) 보관 기간, 지나면 purgeFinished가 삭제
+    @Value("${application.crawler.jobs.retention:7d}")
+    private Duration retention;
+
+    /**
+     * 블로그별 작업 생성
+     */
+    @Transactional
+    public void createRun(String runId, CrawlMode mode, List<String> companies) {
+        crawlJobRepository.saveAll(companies.stream()
+                .map(company -> CrawlJob.source(runId, mode, company))
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasJobs(String runId) {
+        return crawlJobRepository.existsByRunId(runId);
+    }
+
+    /**
+     * 가져갈 수 있는 작업에 lease를 잡는다 (runId가 null이면 모든 실행의 남은 작업 대상)
+     */
+    @Transactional
+    public List<CrawlJob> claim(String runId, int limit) {
+        List<CrawlJob> jobs = crawlJobRepository.findClaimable(runId, CrawlJob.Status.PENDING, CrawlJob.Status.RUNNING,
+                LocalDateTime.now(), PageRequest.of(0, limit));
+        jobs.forEach(job -> job.lease(INSTANCE_ID, lease));
+        return jobs;
+    }
+
+    @Transactional
+    public void complete(Long jobId, CrawlResult result) {
+        crawlJobRepository.findById(jobId)
+                .ifPresent(job -> job.complete(result.found(), result.saved()));
+    }
+
+    /**
+     * 다른 인스턴스가 같은 블로그를 크롤링 중이라 실행하지 못한 작업을 시도 횟수 차감 없이 대기 상태로 돌린다
+     * 재시도 대기 시간 뒤에 가져갈 수 있으므로, 같은 작업을 바로 다시 가져가서 lease 확인만 반복하지 않는다
+     */
+    @Transactional
+    public void postpone(Long jobId) {
+        crawlJobRepository.findById(jobId).ifPresent(job -> job.postpone(retryBackoff));
+    }
+
+    @Transactional
+    public void fail(Long jobId, String error) {
+        crawlJobRepository.findById(jobId).ifPresent(job -> {
+            job.fail(error, maxAttempts, retryBackoff, retryMaxBackoff);
+            if (job.getStatus() == CrawlJob.Status.FAILED) {
+                log.error("크롤링 작업 최종 실패 - {} {} {}: {}", job.getType(), job.getCompany(),
+                        job.getUrl() != null ? job.getUrl() : "", error);
+            } else {
+                log.warn("크롤링 작업 실패 - {} {}, {} 이후 재시도 ({}/{}회)", job.getType(), job.getCompany(),
+                        job.getAvailableAt(), job.getAttempts(), maxAttempts);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 끝난 작업 삭제 (주기 스케줄러가 블로그마다 작업을 계속 만들므로 테이블이 끝없이 커지지 않도록)
+     * 한 번에 지우면 잠금이 길어지므로 끊어서 삭제한다
+     */
+    @Scheduled(cron = "${application.crawler.jobs.purge-cron:0 0 4 * * *}")
+    public void purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        List<CrawlJob.Status> finished = List.of(CrawlJob.Status.DONE, CrawlJob.Status.FAILED);
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = crawlJobRepository.findIdsFinishedBefore(finished, before, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                crawlJobRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == PURGE_BATCH_SIZE);
+        if (deleted > 0) {
+            log.info("끝난 크롤링 작업 정리 - {}건 ({} 이전)", deleted, before);
+        }
+    }
+
+    /**
+     * 다시 시도해도 실행할 수 없는 작업을 시도 횟수와 관계없이 실패로 끝낸다
+     */
+    @Transactional
+    public void abandon(Long jobId, String error) {
+        crawlJobRepository.findById(jobId).ifPresent(job -> {
+            job.abandon(error);
+            log.error("크롤링 작업 실행 불가 - {} {} {}: {}", job.getType(), job.getCompany(),
+                    job.getUrl() != null ? job.getUrl() : "", error);
+        });
+    }
+
+    /**
+     * 상세 페이지 수집에 실패한 게시글을 재시도 작업으로 등록 (같은 URL이 대기 중이면 무시)
+     */
+    @Override
+    @Transactional
+    public void enqueue(String company, String url, LocalDateTime publishDate, String error) {
+        if (url == null || crawlJobRepository.existsByTypeAndUrlAndStatusIn(CrawlJob.Type.ARTICLE, url,
+                List.of(CrawlJob.Status.PENDING, CrawlJob.Status.RUNNING))) {
+            return;
+        }
+        crawlJobRepository.save(CrawlJob.article(UUID.randomUUID().toString(), company, url, publishDate));
+        log.info("게시글 재시도 작업 등록 - {}: {} ({})", company, url, error);
+    }
+}
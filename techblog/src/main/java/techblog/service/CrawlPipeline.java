@@ -0,0 +1,149 @@
+package techblog.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import techblog.config.CacheConfig;
+import techblog.crawler.CrawlMode;
+import techblog.crawler.CrawlStateStore;
+import techblog.domain.BlogPost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 크롤링 결과의 저장/색인 파이프라인
+ * 크롤러(수집 + 파싱) -> ingest(정규화, 중복 제거, 저장) -> index(Elasticsearch) 순서로 단계마다 큐와 스레드를 따로 두어
+ * 크롤러는 저장을 기다리지 않고 다음 블로그를 수집하고, DB 저장과 ES 색인은 수집과 겹쳐서 진행된다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlPipeline {
+    private final PostIngestionService postIngestionService;
+    private final BlogPostIndexer blogPostIndexer;
+    private final CrawlStateStore crawlStateStore;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    @Value("${application.crawler.pipeline.ingest.capacity:16}")
+    private int ingestCapacity;
+
+    @Value("${application.crawler.pipeline.ingest.parallelism:2}")
+    private int ingestParallelism;
+
+    @Value("${application.crawler.pipeline.index.capacity:16}")
+    private int indexCapacity;
+
+    @Value("${application.crawler.pipeline.index.parallelism:1}")
+    private int indexParallelism;
+
+    private PipelineStage<IngestTask> ingestStage;
+    private PipelineStage<IndexTask> indexStage;
+
+    /**
+     * 크롤러 하나의 저장/색인 결과
+     */
+    public record IngestionOutcome(int saved, int updated) {
+    }
+
+    private record IngestTask(String company, CrawlMode mode, List<BlogPost> posts,
+                              CompletableFuture<IngestionOutcome> result) {
+    }
+
+    private record IndexTask(List<BlogPost> posts, IngestionOutcome outcome,
+                             CompletableFuture<IngestionOutcome> result) {
+    }
+
+    @PostConstruct
+    public void init() {
+        indexStage = new PipelineStage<>("index", indexCapacity, indexParallelism, this::index, meterRegistry);
+        ingestStage = new PipelineStage<>("ingest", ingestCapacity, ingestParallelism, this::ingest, meterRegistry);
+    }
+
+    /**
+     * 크롤러 결과를 파이프라인에 넣는다
+     * 반환된 future는 저장과 색인 요청까지 끝나면 완료된다 (ingest 큐가 가득 차면 자리가 날 때까지 대기)
+     */
+    public CompletableFuture<IngestionOutcome> submit(String company, CrawlMode mode, List<BlogPost> posts)
+            throws InterruptedException {
+        CompletableFuture<IngestionOutcome> result = new CompletableFuture<>();
+        ingestStage.submit(new IngestTask(company, mode, posts, result));
+        return result;
+    }
+
+    private void ingest(IngestTask task) {
+        try {
+            List<BlogPost> saved = postIngestionService.saveNewPosts(task.posts());
+            // 재수집일 때만 기존 포스트의 변경 여부 확인 (지문이 같으면 DB/ES 모두 건드리지 않음)
+            List<BlogPost> updated = task.mode() == CrawlMode.REFRESH
+                    ? postIngestionService.updateChangedPosts(task.posts())
+                    : List.of();
+            markSeen(task.company(), task.posts());
+
+            List<BlogPost> toIndex = new ArrayList<>(saved.size() + updated.size());
+            toIndex.addAll(saved);
+            toIndex.addAll(updated);
+            indexStage.submit(new IndexTask(toIndex, new IngestionOutcome(saved.size(), updated.size()), task.result()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.result().completeExceptionally(e);
+        } catch (Exception e) {
+            log.error("{} 포스트 저장 중 오류 발생: {}", task.company(), e.getMessage(), e);
+            task.result().completeExceptionally(e);
+        }
+    }
+
+    private void index(IndexTask task) {
+        try {
+            blogPostIndexer.index(task.posts());
+            if (!task.posts().isEmpty()) {
+                evictCaches();
+            }
+            task.result().complete(task.outcome());
+        } catch (Exception e) {
+            // 저장은 끝났으므로 색인 실패는 결과에 반영하지 않음 (색인 대기로 남은 포스트는 BlogPostIndexer가 다시 색인)
+            log.error("Elasticsearch 색인 요청 실패 - {}건: {}", task.posts().size(), e.getMessage(), e);
+            task.result().complete(task.outcome());
+        }
+    }
+
+    /**
+     * 새 글/수정된 글이 저장되면 최근 글 캐시를 비움 (모든 인스턴스의 로컬 캐시까지)
+     * 트렌드는 검색 인덱스 세대가 바뀐 것을 보고 TrendSnapshotService가 다시 계산한다
+     */
+    private void evictCaches() {
+        try {
+            Cache cache = cacheManager.getCache(CacheConfig.RECENT_POSTS);
+            if (cache != null) {
+                cache.clear();
+            }
+        } catch (Exception e) {
+            log.warn("{} 캐시 비우기 실패: {}", CacheConfig.RECENT_POSTS, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장이 끝난 포스트를 크롤링 상태에 반영 (다음 실행에서 다시 가져오지 않도록)
+     */
+    private void markSeen(String company, List<BlogPost> posts) {
+        try {
+            crawlStateStore.markSeen(company, posts);
+        } catch (Exception e) {
+            log.warn("{} 크롤링 상태 저장 실패: {}", company, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        ingestStage.close();
+        indexStage.close();
+    }
+}
@@ -0,0 +1,35 @@
+package techblog.service;
+
+import java.time.Duration;
+
+/**
+ * 크롤러 하나의 실행 결과
+ */
+public record CrawlResult(
+        String company,
+        Status status,
+        int found,
+        int saved,
+        int updated,
+        int failed,
+        Duration elapsed,
+        String error
+) {
+    public enum Status {
+        SUCCESS, FAILED, TIMEOUT
+    }
+
+    public static CrawlResult success(String company, int found, int saved, int updated, int failed,
+                                      Duration elapsed) {
+        return new CrawlResult(company, Status.SUCCESS, found, saved, updated, failed, elapsed, null);
+    }
+
+    public static CrawlResult failed(String company, Duration elapsed, String error) {
+        return new CrawlResult(company, Status.FAILED, 0, 0, 0, 0, elapsed, error);
+    }
+
+    public static CrawlResult timeout(String company, Duration elapsed) {
+        return new CrawlResult(company, Status.TIMEOUT, 0, 0, 0, 0, elapsed,
+                "크롤링 제한 시간 초과 (" + elapsed.toSeconds() + "초)");
+    }
+}
@@ -0,0 +1,56 @@
+package techblog.service;
+
+import lombok.Getter;
+import techblog.crawler.CrawlMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * API로 시작한 크롤링 실행 하나의 진행 상태 (메모리에만 보관)
+ */
+@Getter
+public class CrawlRun {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String runId;
+    private final CrawlMode mode;
+    private final int totalSources;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final List<CrawlResult> results = new CopyOnWriteArrayList<>();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public CrawlRun(String runId, CrawlMode mode, int totalSources) {
+        this.runId = runId;
+        this.mode = mode;
+        this.totalSources = totalSources;
+    }
+
+    void addResult(CrawlResult result) {
+        results.add(result);
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String error) {
+        finish(Status.FAILED, error);
+    }
+
+    private void finish(Status status, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+}
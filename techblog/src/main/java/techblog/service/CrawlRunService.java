@@ -0,0 +1,149 @@
+package techblog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import techblog.crawler.CrawlMode;
+import techblog.crawler.definition.CrawlerRegistry;
+import techblog.dto.response.CrawlRunResponse;
+import techblog.exception.BusinessException;
+import techblog.exception.ErrorCode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * API로 요청한 크롤링을 별도 스레드에서 실행하고 진행 상황을 조회/스트리밍(SSE)한다
+ * 요청 스레드는 실행 id만 받고 바로 반환되며, 이 인스턴스에서 수동 실행은 한 번에 하나만 허용한다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlRunService {
+    // 완료된 실행 중 상태 조회용으로 남겨 둘 개수
+    private static final int MAX_RECENT_RUNS = 20;
+
+    private final CrawlingService crawlingService;
+    private final CrawlerRegistry crawlerRegistry;
+
+    // SSE 연결 제한 시간 (크롤링 제한 시간보다 길게)
+    @Value("${application.crawler.run.sse-timeout:30m}")
+    private Duration sseTimeout;
+
+    private final ExecutorService runExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("crawl-run-"));
+    private final AtomicReference<CrawlRun> activeRun = new AtomicReference<>();
+    private final Map<String, CrawlRun> recentRuns = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CrawlRun> eldest) {
+            return size() > MAX_RECENT_RUNS;
+        }
+    };
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 크롤링 실행을 등록하고 바로 반환 (이미 실행 중이면 CRAWL_ALREADY_RUNNING)
+     */
+    public CrawlRun start(CrawlMode mode) {
+        CrawlRun run = new CrawlRun(UUID.randomUUID().toString(), mode, crawlerRegistry.getCrawlers().size());
+        if (!activeRun.compareAndSet(null, run)) {
+            throw new BusinessException(ErrorCode.CRAWL_ALREADY_RUNNING,
+                    "이미 실행 중인 크롤링이 있습니다: " + activeRun.get().getRunId());
+        }
+        synchronized (recentRuns) {
+            recentRuns.put(run.getRunId(), run);
+        }
+
+        try {
+            runExecutor.execute(() -> execute(run));
+        } catch (RuntimeException e) {
+            activeRun.set(null);
+            throw e;
+        }
+        return run;
+    }
+
+    public CrawlRun getRun(String runId) {
+        synchronized (recentRuns) {
+            CrawlRun run = recentRuns.get(runId);
+            if (run == null) {
+                throw new BusinessException(ErrorCode.CRAWL_RUN_NOT_FOUND);
+            }
+            return run;
+        }
+    }
+
+    /**
+     * 진행 상황 구독: 현재 상태(status), 블로그별 결과(progress), 종료(completed) 이벤트를 보낸다
+     */
+    public SseEmitter subscribe(String runId) {
+        CrawlRun run = getRun(runId);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        List<SseEmitter> runEmitters = emitters.computeIfAbsent(runId, id -> new CopyOnWriteArrayList<>());
+        runEmitters.add(emitter);
+        emitter.onCompletion(() -> runEmitters.remove(emitter));
+        emitter.onTimeout(() -> runEmitters.remove(emitter));
+        emitter.onError(e -> runEmitters.remove(emitter));
+
+        send(emitter, "status", CrawlRunResponse.from(run));
+        // 구독 전에 끝난 실행은 바로 종료 이벤트까지 보냄
+        if (run.isFinished()) {
+            send(emitter, "completed", CrawlRunResponse.from(run));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void execute(CrawlRun run) {
+        try {
+            crawlingService.crawlAll(run.getMode(), run.getRunId(), result -> {
+                run.addResult(result);
+                broadcast(run.getRunId(), "progress", result);
+            });
+            run.complete();
+        } catch (Exception e) {
+            log.error("크롤링 실행 실패 - {}: {}", run.getRunId(), e.getMessage(), e);
+            run.fail(e.getMessage());
+        } finally {
+            activeRun.set(null);
+            broadcast(run.getRunId(), "completed", CrawlRunResponse.from(run));
+            List<SseEmitter> runEmitters = emitters.remove(run.getRunId());
+            if (runEmitters != null) {
+                runEmitters.forEach(SseEmitter::complete);
+            }
+        }
+    }
+
+    private void broadcast(String runId, String event, Object data) {
+        List<SseEmitter> runEmitters = emitters.get(runId);
+        if (runEmitters != null) {
+            runEmitters.forEach(emitter -> send(emitter, event, data));
+        }
+    }
+
+    private static void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 onError/onCompletion에서 제거됨
+            emitter.completeWithError(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        runExecutor.shutdownNow();
+    }
+}
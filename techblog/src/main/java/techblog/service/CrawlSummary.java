@@ -0,0 +1,39 @@
+package techblog.service;
+
+import techblog.crawler.CrawlMode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 크롤링 실행 요약
+ */
+public record CrawlSummary(
+        CrawlMode mode,
+        LocalDateTime startedAt,
+        Duration elapsed,
+        List<CrawlResult> results
+) {
+    public int totalFound() {
+        return results.stream().mapToInt(CrawlResult::found).sum();
+    }
+
+    public int totalSaved() {
+        return results.stream().mapToInt(CrawlResult::saved).sum();
+    }
+
+    public int totalUpdated() {
+        return results.stream().mapToInt(CrawlResult::updated).sum();
+    }
+
+    public int totalFailed() {
+        return results.stream().mapToInt(CrawlResult::failed).sum();
+    }
+
+    public long failedCrawlers() {
+        return results.stream()
+                .filter(result -> result.status() != CrawlResult.Status.SUCCESS)
+                .count();
+    }
+}
@@ -1,25 +1,82 @@
 package techblog.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import techblog.crawler.CrawlMode;
+import techblog.dto.response.BackfillResponse;
+import techblog.dto.response.CrawlRunResponse;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/crawling")
 public class CrawlingController {
-    private final CrawlingService crawlingService;
+    private final CrawlRunService crawlRunService;
+    private final BlogPostIndexer blogPostIndexer;
+    private final BackfillService backfillService;
 
+    /**
+     * 크롤링 실행 요청, 실행 id를 바로 반환하고 크롤링은 백그라운드에서 진행 (실행 중이면 409)
+     */
     @PostMapping("/start")
-    public ResponseEntity<String> startCrawling() {
+    public ResponseEntity<CrawlRunResponse> startCrawling() {
+        return ResponseEntity.accepted().body(CrawlRunResponse.from(crawlRunService.start(CrawlMode.INCREMENTAL)));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<CrawlRunResponse> refresh() {
+        return ResponseEntity.accepted().body(CrawlRunResponse.from(crawlRunService.start(CrawlMode.REFRESH)));
+    }
+
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<CrawlRunResponse> getRun(@PathVariable String runId) {
+        return ResponseEntity.ok(CrawlRunResponse.from(crawlRunService.getRun(runId)));
+    }
+
+    /**
+     * 블로그별 진행 상황 스트리밍 (SSE, 이벤트: status / progress / completed)
+     */
+    @GetMapping(value = "/runs/{runId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRun(@PathVariable String runId) {
+        return crawlRunService.subscribe(runId);
+    }
+
+    /**
+     * 블로그의 과거 글 수집 시작 (저장된 위치가 있으면 이어서 진행, 백그라운드에서 주기마다 몇 페이지씩 수집)
+     */
+    @PostMapping("/backfill/{company}")
+    public ResponseEntity<BackfillResponse> startBackfill(@PathVariable String company,
+                                                          @RequestParam(required = false) Integer maxPages) {
+        return ResponseEntity.accepted().body(BackfillResponse.from(backfillService.start(company, maxPages)));
+    }
+
+    @PostMapping("/backfill/{company}/pause")
+    public ResponseEntity<BackfillResponse> pauseBackfill(@PathVariable String company) {
+        return ResponseEntity.ok(BackfillResponse.from(backfillService.pause(company)));
+    }
+
+    @GetMapping("/backfill")
+    public ResponseEntity<List<BackfillResponse>> getBackfills() {
+        return ResponseEntity.ok(backfillService.getCheckpoints().stream().map(BackfillResponse::from).toList());
+    }
+
+    @PostMapping("/reindex")
+    public ResponseEntity<String> reindex() {
         try {
-            crawlingService.crawlAllBlogs();
-            return ResponseEntity.ok("크롤링이 성공적으로 시작되었습니다.");
+            long count = blogPostIndexer.reindexAll();
+            return ResponseEntity.ok(count + "건의 포스트 재색인을 요청했습니다.");
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
-                    .body("크롤링 실행 중 오류 발생: " + e.getMessage());
+                    .body("재색인 중 오류 발생: " + e.getMessage());
         }
     }
 }
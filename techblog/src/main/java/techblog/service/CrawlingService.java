@@ -1,69 +1,339 @@
 package techblog.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import techblog.crawler.BlogCrawler;
+import techblog.crawler.CrawlMode;
+import techblog.crawler.definition.CrawlerRegistry;
 import techblog.domain.BlogPost;
-import techblog.domain.BlogPostDocument;
-import techblog.repository.jpa.BlogPostJpaRepository;
+import techblog.domain.CrawlJob;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Tag(name = "크롤링 컨트롤러", description = "기술 블로그 크롤링 관련 API")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CrawlingService {
-    private final List<BlogCrawler> crawlers;
-    private final BlogPostJpaRepository blogPostRepository;
-    private final ElasticsearchClient elasticsearchClient;
+    private final CrawlerRegistry crawlerRegistry;
+    private final CrawlPipeline crawlPipeline;
+    private final BlogPostIndexer blogPostIndexer;
+    private final CrawlJobService crawlJobService;
+    private final CrawlCoordinator crawlCoordinator;
+    @Qualifier("crawlExecutor")
+    private final ExecutorService crawlExecutor;
+
+    @Value("${application.crawler.timeout:PT10M}")
+    private Duration crawlTimeout;
+
+    @Value("${application.crawler.max-concurrency:8}")
+    private int maxConcurrency;
 
     private static final long Month_IN_DAYS = 31;
-    @Scheduled(cron = "0 0 */4 * * *")  // 4시간마다 실행
-    @Transactional
-    public void crawlAllBlogs() {
-        log.info("기술 블로그 크롤링 시작");
-
-        for (BlogCrawler crawler : crawlers) {
-            try {
-                log.info("{} 블로그 크롤링 시작", crawler.getCompanyName());
-                List<BlogPost> posts = crawler.crawl();
-
-                for (BlogPost post : posts) {
-                    if (!blogPostRepository.existsByUrl(post.getUrl())) {
-                        blogPostRepository.save(post);
-                        indexToElasticsearch(post);
-                        log.info("새 포스트 저장: {}", post.getTitle());
-                    }
-                }
+    // 한 번에 이어서 실행할 남은 작업 수
+    private static final int RESUME_BATCH_SIZE = 20;
+    // 다른 인스턴스가 주기 작업을 생성할 때까지 기다리는 최대 시간
+    private static final Duration CYCLE_JOB_WAIT = Duration.ofSeconds(30);
+    private static final Consumer<CrawlResult> NO_PROGRESS = result -> {
+    };
+
+    /**
+     * 모든 크롤러를 병렬로 실행하고 실행 요약을 반환 (API 요청용, 블로그마다 결과가 나오면 progressListener 호출)
+     * 크롤러마다 제한 시간과 별도의 트랜잭션을 가지므로 느린 블로그 하나가 다른 블로그를 막지 않는다
+     */
+    public CrawlSummary crawlAll(CrawlMode mode, String runId, Consumer<CrawlResult> progressListener) {
+        return run(mode, runId, true, companies(), progressListener);
+    }
+
+    /**
+     * 지정한 블로그만 크롤링 (블로그별 주기 스케줄러용)
+     */
+    public CrawlSummary crawlSources(CrawlMode mode, String runId, List<String> companies) {
+        return run(mode, runId, true, companies, NO_PROGRESS);
+    }
+
+    @Scheduled(cron = "${application.crawler.refresh-cron:0 30 3 * * *}")
+    public void scheduledRefresh() {
+        runCycle(CrawlMode.REFRESH);
+    }
+
+    /**
+     * 모든 인스턴스에서 동시에 실행되는 주기 실행
+     * 주기(방식 + 시각)마다 같은 실행 id를 쓰고 작업 생성은 한 인스턴스만 하므로, 블로그마다 주기당 한 번만 크롤링된다
+     */
+    private void runCycle(CrawlMode mode) {
+        LocalDateTime slot = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        String runId = UUID.nameUUIDFromBytes((mode + ":" + slot).getBytes(StandardCharsets.UTF_8)).toString();
+        run(mode, runId, crawlCoordinator.tryStartCycle(runId), companies(), NO_PROGRESS);
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 작업(재시작, lease 만료)과 실패한 게시글 재시도 작업을 이어서 실행
+     */
+    @Scheduled(fixedDelayString = "${application.crawler.jobs.poll-interval:PT1M}",
+            initialDelayString = "${application.crawler.jobs.poll-interval:PT1M}")
+    public void resumePendingJobs() {
+        List<CrawlJob> jobs = crawlJobService.claim(null, RESUME_BATCH_SIZE);
+        if (jobs.isEmpty()) {
+            return;
+        }
+        log.info("남은 크롤링 작업 {}건 재개", jobs.size());
+        execute(jobs, NO_PROGRESS).forEach(this::logResult);
+    }
+
+    /**
+     * 블로그별 작업을 DB에 기록해 두고 lease를 잡은 작업만 실행 (중간에 종료되면 resumePendingJobs가 이어서 실행)
+     * 동시 실행 수만큼씩 작업을 가져가므로 여러 인스턴스가 같은 실행의 작업을 나눠서 처리한다
+     */
+    private CrawlSummary run(CrawlMode mode, String runId, boolean createJobs, List<String> companies,
+                             Consumer<CrawlResult> progressListener) {
+        log.info("기술 블로그 크롤링 시작 - 블로그 {}개, 방식: {}, 실행: {}", companies.size(), mode, runId);
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
 
-                log.info("{} 블로그 크롤링 완료 - {} 개의 포스트",
-                        crawler.getCompanyName(), posts.size());
-            } catch (Exception e) {
-                log.error("{} 블로그 크롤링 중 오류 발생: {}",
-                        crawler.getCompanyName(), e.getMessage(), e);
+        if (createJobs) {
+            crawlJobService.createRun(runId, mode, companies);
+        } else {
+            awaitJobs(runId);
+        }
+
+        List<CrawlResult> results = new ArrayList<>();
+        List<CrawlJob> jobs;
+        while (!(jobs = crawlJobService.claim(runId, maxConcurrency)).isEmpty()) {
+            List<CrawlResult> executed = execute(jobs, progressListener);
+            if (executed.isEmpty()) {
+                // 남은 작업이 모두 다른 인스턴스에서 크롤링 중인 블로그 - resumePendingJobs가 나중에 처리
+                break;
+            }
+            results.addAll(executed);
+        }
+
+        CrawlSummary summary = new CrawlSummary(mode, startedAt, Duration.ofNanos(System.nanoTime() - start), results);
+        logSummary(summary);
+        return summary;
+    }
+
+    public List<String> companies() {
+        return crawlerRegistry.getCrawlers().stream().map(BlogCrawler::getCompanyName).toList();
+    }
+
+    /**
+     * 다른 인스턴스가 이 주기의 작업을 만들 때까지 잠시 대기
+     */
+    private void awaitJobs(String runId) {
+        long deadline = System.nanoTime() + CYCLE_JOB_WAIT.toNanos();
+        try {
+            while (!crawlJobService.hasJobs(runId) && System.nanoTime() < deadline) {
+                Thread.sleep(1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * lease를 잡은 작업을 병렬로 실행하고 결과를 작업 큐에 기록
+     * 블로그 작업은 Redis lease도 잡아서, 다른 인스턴스가 같은 블로그를 크롤링 중이면 나중으로 미룬다
+     */
+    private List<CrawlResult> execute(List<CrawlJob> jobs, Consumer<CrawlResult> progressListener) {
+        Map<String, BlogCrawler> crawlersByCompany = crawlerRegistry.getCrawlers().stream()
+                .collect(Collectors.toMap(BlogCrawler::getCompanyName, Function.identity()));
+
+        List<CrawlTask> tasks = new ArrayList<>();
+        for (CrawlJob job : jobs) {
+            BlogCrawler crawler = crawlersByCompany.get(job.getCompany());
+            if (crawler == null) {
+                crawlJobService.fail(job.getId(), "크롤러 없음: " + job.getCompany());
+                continue;
+            }
+            if (job.getType() == CrawlJob.Type.ARTICLE && !crawler.supportsArticle()) {
+                // 다시 시도해도 실행할 수 없으므로 재시도 없이 실패 처리
+                crawlJobService.abandon(job.getId(), job.getCompany() + " 크롤러는 게시글 단위 수집을 지원하지 않음");
+                continue;
+            }
+            if (job.getType() == CrawlJob.Type.SOURCE && !crawlCoordinator.tryAcquire(job.getCompany())) {
+                log.info("{} 블로그는 다른 인스턴스에서 크롤링 중 - 작업 연기", job.getCompany());
+                crawlJobService.postpone(job.getId());
+                continue;
             }
+            CrawlTask task = new CrawlTask(crawler, job);
+            task.future = crawlExecutor.submit(task);
+            tasks.add(task);
         }
 
-        log.info("모든 블로그 크롤링 완료");
+        // 수집이 끝난 크롤러부터 저장/색인 파이프라인에 들어가므로, 수집 대기 후 파이프라인 완료를 기다린다
+        List<CompletableFuture<CrawlResult>> pending = new ArrayList<>();
+        for (CrawlTask task : tasks) {
+            pending.add(await(task).thenApply(result -> {
+                record(task.job, result);
+                try {
+                    progressListener.accept(result);
+                } catch (Exception e) {
+                    log.warn("크롤링 진행 상황 전달 실패: {}", e.getMessage());
+                }
+                return result;
+            }));
+        }
+
+        List<CrawlResult> results = pending.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        blogPostIndexer.flush();
+        return results;
     }
 
-    private void indexToElasticsearch(BlogPost post) {
+    private void record(CrawlJob job, CrawlResult result) {
+        if (job.getType() == CrawlJob.Type.SOURCE) {
+            crawlCoordinator.release(job.getCompany());
+        }
         try {
-            BlogPostDocument document = BlogPostDocument.from(post);
-            IndexRequest<BlogPostDocument> request = IndexRequest.of(i -> i
-                    .index("blog-posts")
-                    .id(document.getId())
-                    .document(document)
-            );
-            elasticsearchClient.index(request);
+            if (result.status() == CrawlResult.Status.SUCCESS) {
+                crawlJobService.complete(job.getId(), result);
+            } else {
+                crawlJobService.fail(job.getId(), result.error());
+            }
         } catch (Exception e) {
-            log.error("Elasticsearch 인덱싱 중 오류 발생: {}", e.getMessage(), e);
+            // 기록하지 못한 작업은 lease가 만료된 뒤 다시 실행됨
+            log.warn("크롤링 작업 결과 기록 실패 - {}: {}", job.getCompany(), e.getMessage());
+        }
+    }
+
+    private CompletableFuture<CrawlResult> crawlBlog(BlogCrawler crawler, CrawlJob job, long startedAt) {
+        String company = crawler.getCompanyName();
+        try {
+            List<BlogPost> posts;
+            if (job.getType() == CrawlJob.Type.ARTICLE) {
+                log.info("{} 게시글 재수집: {}", company, job.getUrl());
+                posts = List.of(crawler.crawlArticle(job.getUrl(), job.getPublishDate()));
+            } else {
+                log.info("{} 블로그 크롤링 시작", company);
+                posts = crawler.crawl(job.getMode());
+                log.info("{} 블로그 수집 완료 - {} 개의 포스트", company, posts.size());
+            }
+
+            return crawlPipeline.submit(company, job.getMode(), posts)
+                    .handle((outcome, e) -> {
+                        if (e != null) {
+                            return new CrawlResult(company, CrawlResult.Status.FAILED, posts.size(), 0, 0,
+                                    posts.size(), elapsedSince(startedAt), e.getMessage());
+                        }
+                        if (job.getType() == CrawlJob.Type.SOURCE) {
+                            crawler.onIngested();
+                        }
+                        return CrawlResult.success(company, posts.size(), outcome.saved(), outcome.updated(), 0,
+                                elapsedSince(startedAt));
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(
+                    CrawlResult.failed(company, elapsedSince(startedAt), "크롤링 작업 취소됨"));
+        } catch (Exception e) {
+            log.error("{} 블로그 크롤링 중 오류 발생: {}", company, e.getMessage(), e);
+            return CompletableFuture.completedFuture(
+                    CrawlResult.failed(company, elapsedSince(startedAt), e.getMessage()));
+        }
+    }
+
+    /**
+     * 크롤러 수집 완료 대기, 반환된 future는 저장/색인까지 끝나면 완료된다
+     * 제한 시간은 작업이 실제로 실행되기 시작한 시점부터 계산한다 (큐에서 대기한 시간 제외)
+     */
+    private CompletableFuture<CrawlResult> await(CrawlTask task) {
+        String company = task.crawler.getCompanyName();
+        long timeoutNanos = crawlTimeout.toNanos();
+        try {
+            while (true) {
+                long waitNanos = task.started
+                        ? task.startedAt + timeoutNanos - System.nanoTime()
+                        : timeoutNanos;
+                try {
+                    return task.future.get(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (task.started && System.nanoTime() - task.startedAt >= timeoutNanos) {
+                        task.future.cancel(true);
+                        log.warn("{} 블로그 크롤링 제한 시간 초과 - 작업 취소", company);
+                        return CompletableFuture.completedFuture(CrawlResult.timeout(company, crawlTimeout));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.future.cancel(true);
+            return CompletableFuture.completedFuture(
+                    CrawlResult.failed(company, task.elapsed(), "크롤링 대기 중 인터럽트 발생"));
+        } catch (CancellationException e) {
+            return CompletableFuture.completedFuture(
+                    CrawlResult.failed(company, task.elapsed(), "크롤링 작업 취소됨"));
+        } catch (ExecutionException e) {
+            log.error("{} 블로그 크롤링 중 오류 발생: {}", company, e.getCause().getMessage(), e.getCause());
+            return CompletableFuture.completedFuture(
+                    CrawlResult.failed(company, task.elapsed(), e.getCause().getMessage()));
+        }
+    }
+
+    private void logSummary(CrawlSummary summary) {
+        log.info("모든 블로그 크롤링 완료 ({}) - 소요 시간: {}초, 발견: {}, 신규: {}, 변경: {}, 실패: {}, 실패한 크롤러: {}",
+                summary.mode(), summary.elapsed().toSeconds(), summary.totalFound(), summary.totalSaved(),
+                summary.totalUpdated(), summary.totalFailed(), summary.failedCrawlers());
+        summary.results().forEach(this::logResult);
+    }
+
+    private void logResult(CrawlResult result) {
+        log.info("  [{}] {} - {}ms, 발견: {}, 신규: {}, 변경: {}, 실패: {}{}",
+                result.status(), result.company(), result.elapsed().toMillis(),
+                result.found(), result.saved(), result.updated(), result.failed(),
+                result.error() != null ? ", 오류: " + result.error() : "");
+    }
+
+    private static Duration elapsedSince(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    private final class CrawlTask implements Callable<CompletableFuture<CrawlResult>> {
+        private final BlogCrawler crawler;
+        private final CrawlJob job;
+        private volatile boolean started;
+        private volatile long startedAt;
+        private Future<CompletableFuture<CrawlResult>> future;
+
+        private CrawlTask(BlogCrawler crawler, CrawlJob job) {
+            this.crawler = crawler;
+            this.job = job;
+        }
+
+        @Override
+        public CompletableFuture<CrawlResult> call() {
+            startedAt = System.nanoTime();
+            started = true;
+            return crawlBlog(crawler, job, startedAt);
+        }
+
+        private Duration elapsed() {
+            return started ? elapsedSince(startedAt) : Duration.ZERO;
         }
     }
 }
@@ -0,0 +1,103 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import techblog.domain.UrlCanonicalizer;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * URL 정규화 이전에 저장된 포스트의 URL을 정규화한 형태로 한 번 바꾼다
+ * 조회는 정규화한 URL로 하므로, 바꾸지 않으면 기존 포스트를 찾지 못하고 같은 글을 다시 저장한다
+ * - 정규화한 URL이 이미 다른 포스트로 저장되어 있으면 그대로 둔다 (이미 다시 저장된 글)
+ * - 검색 문서 id도 URL이므로 이전 URL의 문서를 지우고 새 URL로 다시 색인한다
+ * 끝나면 Redis에 완료 표시를 남기고, 도중에 실패하면 다음 시작 때 처음부터 다시 확인한다 (이미 바꾼 URL은 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyUrlMigration {
+    private static final String DONE_KEY = "migration:url-canonical:done";
+    private static final int PAGE_SIZE = 500;
+
+    private final BlogPostJpaRepository blogPostRepository;
+    private final BlogPostIndexer blogPostIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("URL 정규화 완료 여부 확인 실패, 다시 확인: {}", e.getMessage());
+        }
+
+        long migrated = 0;
+        long skipped = 0;
+        try {
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = blogPostRepository.findUrlsAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+                Map<Long, String> changes = new LinkedHashMap<>();
+                Map<Long, String> oldUrls = new LinkedHashMap<>();
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    String url = (String) row[1];
+                    String canonical = UrlCanonicalizer.canonicalize(url);
+                    if (canonical != null && !canonical.equals(url)) {
+                        changes.put(lastId, canonical);
+                        oldUrls.put(lastId, url);
+                    }
+                }
+                if (changes.isEmpty()) {
+                    continue;
+                }
+
+                // 정규화한 URL이 이미 있거나 같은 묶음의 다른 포스트와 겹치면 유니크 제약에 걸리므로 제외
+                Set<String> taken = new HashSet<>(blogPostRepository.findExistingUrls(changes.values()));
+                changes.entrySet().removeIf(change -> !taken.add(change.getValue()));
+                skipped += oldUrls.size() - changes.size();
+                if (changes.isEmpty()) {
+                    continue;
+                }
+
+                transactionTemplate.executeWithoutResult(status ->
+                        changes.forEach(blogPostRepository::updateUrl));
+                migrated += changes.size();
+
+                List<String> staleIds = new ArrayList<>();
+                changes.keySet().forEach(id -> staleIds.add(oldUrls.get(id)));
+                blogPostIndexer.delete(staleIds);
+                transactionTemplate.executeWithoutResult(status ->
+                        blogPostIndexer.index(blogPostRepository.findWithTagsByIdIn(changes.keySet())));
+            } while (rows.size() == PAGE_SIZE);
+        } catch (Exception e) {
+            log.warn("기존 포스트 URL 정규화 실패 ({}건 완료), 다음 시작 때 다시 시도: {}", migrated, e.getMessage());
+            return;
+        }
+
+        blogPostIndexer.flush();
+        log.info("기존 포스트 URL 정규화 완료 - 변경 {}건, 이미 저장된 URL로 건너뜀 {}건", migrated, skipped);
+        try {
+            redisTemplate.opsForValue().set(DONE_KEY, String.valueOf(migrated));
+        } catch (Exception e) {
+            log.warn("URL 정규화 완료 표시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
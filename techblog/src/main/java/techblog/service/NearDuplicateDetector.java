@@ -0,0 +1,215 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import techblog.domain.SimHash;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SimHash 기반 유사 문서(교차 게시, 미러링) 탐지기
+ * 64비트 서명을 16비트씩 4개 구간으로 나눈 LSH 인덱스를 메모리에 유지한다
+ * 해밍 거리가 3 이하인 두 서명은 적어도 한 구간이 완전히 같으므로(비둘기집 원리) 같은 버킷만 비교하면 된다
+ * 인덱스는 시작 시 DB의 서명으로 다시 만들며, 서명이 없는 기존 포스트는 본문으로 서명을 계산해서 먼저 채운다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearDuplicateDetector {
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+    private static final int BAND_MASK = (1 << BAND_BITS) - 1;
+    private static final int WARMUP_PAGE_SIZE = 5000;
+    // 서명 채우기는 본문을 읽으므로 작게 끊어서 진행
+    private static final int BACKFILL_PAGE_SIZE = 200;
+    private static final long REMOVED = -1L;
+
+    private final BlogPostJpaRepository blogPostRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 중복으로 판단된 포스트 처리 방식
+     * LINK: 저장하되 원본 포스트를 가리키고 검색 인덱스에는 넣지 않음
+     * SUPPRESS: 저장하지 않음
+     */
+    public enum Action {
+        LINK, SUPPRESS
+    }
+
+    @Value("${application.crawler.duplicate.action:LINK}")
+    private Action action;
+
+    // 4개 구간 LSH로 빠짐없이 찾을 수 있는 최대 거리는 3
+    @Value("${application.crawler.duplicate.max-distance:3}")
+    private int maxDistance;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 등록 순서대로 서명과 포스트 id 저장, 버킷에는 이 배열의 위치만 보관
+    private long[] signatures = new long[1024];
+    private long[] postIds = new long[1024];
+    private int size;
+    private final int[][][] buckets = new int[BANDS][1 << BAND_BITS][];
+    private final int[][] bucketSizes = new int[BANDS][1 << BAND_BITS];
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            backfillSignatures();
+        } catch (Exception e) {
+            log.warn("기존 포스트 서명 채우기 실패, 서명이 있는 포스트만 탐지: {}", e.getMessage());
+        }
+        try {
+            long count = 0;
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = blogPostRepository.findSimhashesAfter(lastId, PageRequest.of(0, WARMUP_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    register(lastId, (Long) row[1]);
+                }
+                count += rows.size();
+            } while (rows.size() == WARMUP_PAGE_SIZE);
+            log.info("유사 문서 인덱스 초기화 완료 - {}건", count);
+        } catch (Exception e) {
+            log.warn("유사 문서 인덱스 초기화 실패, 새로 수집한 포스트부터 탐지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서명 없이 저장된 기존 포스트의 서명 계산 (SimHash 도입 이전 데이터와도 비교할 수 있도록)
+     * 본문이 너무 짧아 서명이 없는 포스트는 계속 null로 남는다
+     */
+    private void backfillSignatures() {
+        long filled = 0;
+        long lastId = 0;
+        List<Object[]> rows;
+        do {
+            rows = blogPostRepository.findContentsWithoutSimhashAfter(lastId, PageRequest.of(0, BACKFILL_PAGE_SIZE));
+            List<Object[]> page = rows;
+            filled += transactionTemplate.execute(status -> {
+                int updated = 0;
+                for (Object[] row : page) {
+                    Long simhash = SimHash.of((String) row[1]);
+                    if (simhash != null) {
+                        updated += blogPostRepository.updateSimhash((Long) row[0], simhash);
+                    }
+                }
+                return updated;
+            });
+            if (!rows.isEmpty()) {
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == BACKFILL_PAGE_SIZE);
+        if (filled > 0) {
+            log.info("기존 포스트 서명 채우기 완료 - {}건", filled);
+        }
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * 서명이 가까운 기존 포스트의 id, 없으면 null
+     */
+    public Long findDuplicate(Long simhash) {
+        if (simhash == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            Long best = null;
+            int bestDistance = maxDistance + 1;
+            for (int band = 0; band < BANDS; band++) {
+                int key = bandKey(simhash, band);
+                int[] bucket = buckets[band][key];
+                for (int i = 0, n = bucketSizes[band][key]; i < n; i++) {
+                    int slot = bucket[i];
+                    int distance = SimHash.distance(simhash, signatures[slot]);
+                    if (distance < bestDistance && postIds[slot] != REMOVED) {
+                        best = postIds[slot];
+                        bestDistance = distance;
+                    }
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void register(long postId, Long simhash) {
+        if (simhash == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (size == signatures.length) {
+                signatures = Arrays.copyOf(signatures, size * 2);
+                postIds = Arrays.copyOf(postIds, size * 2);
+            }
+            int slot = size++;
+            signatures[slot] = simhash;
+            postIds[slot] = postId;
+            for (int band = 0; band < BANDS; band++) {
+                addToBucket(band, bandKey(simhash, band), slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 본문이 바뀐 포스트의 서명 교체
+     */
+    public void replace(long postId, Long oldSimhash, Long newSimhash) {
+        if (oldSimhash != null) {
+            remove(postId, oldSimhash);
+        }
+        register(postId, newSimhash);
+    }
+
+    private void remove(long postId, long simhash) {
+        lock.writeLock().lock();
+        try {
+            int key = bandKey(simhash, 0);
+            int[] bucket = buckets[0][key];
+            for (int i = 0, n = bucketSizes[0][key]; i < n; i++) {
+                int slot = bucket[i];
+                if (postIds[slot] == postId && signatures[slot] == simhash) {
+                    postIds[slot] = REMOVED;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addToBucket(int band, int key, int slot) {
+        int[] bucket = buckets[band][key];
+        int n = bucketSizes[band][key];
+        if (bucket == null) {
+            bucket = new int[4];
+        } else if (n == bucket.length) {
+            bucket = Arrays.copyOf(bucket, n * 2);
+        }
+        bucket[n] = slot;
+        buckets[band][key] = bucket;
+        bucketSizes[band][key] = n + 1;
+    }
+
+    private static int bandKey(long simhash, int band) {
+        return (int) (simhash >>> (band * BAND_BITS)) & BAND_MASK;
+    }
+}
@@ -0,0 +1,93 @@
+package techblog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 파이프라인 단계 하나
+ * 크기가 제한된 큐와 전용 작업 스레드로 구성되며, 큐가 가득 차면 submit()이 블로킹되어 앞 단계의 속도를 늦춘다
+ * 큐 길이(crawler.pipeline.queue.depth), 처리량(crawler.pipeline.items), 처리 시간(crawler.pipeline.latency)을 단계별로 기록한다
+ */
+@Slf4j
+public class PipelineStage<T> implements AutoCloseable {
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final Consumer<T> handler;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Timer latency;
+
+    public PipelineStage(String name, int capacity, int parallelism, Consumer<T> handler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.handler = handler;
+
+        Gauge.builder("crawler.pipeline.queue.depth", queue, BlockingQueue::size)
+                .tag("stage", name)
+                .register(meterRegistry);
+        processedCounter = meterRegistry.counter("crawler.pipeline.items", "stage", name, "result", "processed");
+        failedCounter = meterRegistry.counter("crawler.pipeline.items", "stage", name, "result", "failed");
+        latency = Timer.builder("crawler.pipeline.latency")
+                .tag("stage", name)
+                .register(meterRegistry);
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory("pipeline-" + name + "-");
+        for (int i = 0; i < parallelism; i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 작업을 큐에 넣는다 (큐가 가득 차면 자리가 날 때까지 대기)
+     */
+    public void submit(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            T item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                handler.accept(item);
+                processedCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("파이프라인 {} 단계 처리 중 오류: {}", name, e.getMessage(), e);
+            } finally {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.warn("파이프라인 {} 단계 종료 - 처리하지 못한 작업 {}건", name, queue.size());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import techblog.domain.BlogPost;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostIngestionService {
+    private final BlogPostJpaRepository blogPostRepository;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final SeenUrlIndex seenUrlIndex;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
+
+    private static final int URL_LOOKUP_CHUNK_SIZE = 500;
+
+    /**
+     * 크롤러 하나의 결과 중 새 포스트만 저장 (크롤러별 짧은 트랜잭션)
+     * URL은 엔티티 생성 시 정규화되며, 이미 가진 URL은 메모리 인덱스에서 바로 걸러낸다
+     * 인덱스에 없는 URL만 IN 쿼리로 한 번 더 확인하고(다른 인스턴스가 저장한 경우 대비), 저장은 JDBC 배치 insert로 처리
+     */
+    @Transactional
+    public List<BlogPost> saveNewPosts(List<BlogPost> posts) {
+        // 같은 결과 안에서 URL이 겹치는 경우 첫 번째 포스트만 사용
+        Map<String, BlogPost> candidates = new LinkedHashMap<>();
+        for (BlogPost post : posts) {
+            if (post.getUrl() != null && !seenUrlIndex.contains(post.getUrl())) {
+                candidates.putIfAbsent(post.getUrl(), post);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> existingUrls = findExistingUrls(candidates.keySet());
+        existingUrls.forEach(seenUrlIndex::add);
+        List<BlogPost> newPosts = new ArrayList<>();
+        for (BlogPost post : candidates.values()) {
+            if (existingUrls.contains(post.getUrl())) {
+                continue;
+            }
+            // URL이 달라도 다른 회사 블로그/미러에 같은 글이 있으면 중복으로 처리
+            Long originalId = nearDuplicateDetector.findDuplicate(post.getSimhash());
+            if (originalId != null) {
+                if (nearDuplicateDetector.getAction() == NearDuplicateDetector.Action.SUPPRESS) {
+                    log.info("유사 문서 저장 생략: {} (원본 id: {})", post.getUrl(), originalId);
+                    continue;
+                }
+                post.markDuplicateOf(originalId);
+                log.info("유사 문서 연결: {} -> 원본 id {}", post.getUrl(), originalId);
+            }
+            newPosts.add(post);
+        }
+        if (newPosts.isEmpty()) {
+            return List.of();
+        }
+
+        List<BlogPost> saved = blogPostRepository.saveAll(newPosts);
+        // 커밋에 실패하면(다른 인스턴스와 URL 충돌 등) 다음 수집에서 다시 저장하도록 커밋된 URL만 인덱스에 등록
+        List<String> savedUrls = saved.stream().map(BlogPost::getUrl).toList();
+        afterCommit(() -> savedUrls.forEach(seenUrlIndex::add));
+        // 롤백된 포스트가 유사 문서 원본으로 남거나 태그 통계에 섞이지 않도록 커밋 후 등록
+        List<BlogPost> originals = saved.stream().filter(post -> !post.isDuplicate()).toList();
+        afterCommit(() -> originals.forEach(post -> {
+            nearDuplicateDetector.register(post.getId(), post.getSimhash());
+            tagCooccurrenceIndex.add(post.getTags());
+        }));
+        for (BlogPost post : saved) {
+            log.info("새 포스트 저장: {}", post.getTitle());
+        }
+        return saved;
+    }
+
+    /**
+     * 이미 저장된 포스트 중 내용 지문이 달라진 포스트만 갱신 (재수집용)
+     * 지문만 먼저 조회해서 비교하고, 바뀐 포스트의 엔티티만 읽어서 수정한다
+     */
+    @Transactional
+    public List<BlogPost> updateChangedPosts(List<BlogPost> posts) {
+        Map<String, BlogPost> crawled = new LinkedHashMap<>();
+        for (BlogPost post : posts) {
+            if (post.getUrl() != null) {
+                crawled.putIfAbsent(post.getUrl(), post);
+            }
+        }
+
+        List<String> urls = new ArrayList<>(crawled.keySet());
+        List<String> changedUrls = new ArrayList<>();
+        for (int from = 0; from < urls.size(); from += URL_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + URL_LOOKUP_CHUNK_SIZE, urls.size());
+            for (Object[] row : blogPostRepository.findContentHashes(urls.subList(from, to))) {
+                String url = (String) row[0];
+                String storedHash = (String) row[1];
+                if (!crawled.get(url).getContentHash().equals(storedHash)) {
+                    changedUrls.add(url);
+                }
+            }
+        }
+        if (changedUrls.isEmpty()) {
+            return List.of();
+        }
+
+        List<BlogPost> updated = new ArrayList<>();
+        for (int from = 0; from < changedUrls.size(); from += URL_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + URL_LOOKUP_CHUNK_SIZE, changedUrls.size());
+            for (BlogPost existing : blogPostRepository.findByUrlIn(changedUrls.subList(from, to))) {
+                // 변경 감지로 트랜잭션 종료 시 update (JDBC 배치)
+                Long oldSimhash = existing.getSimhash();
+                Set<String> oldTags = new HashSet<>(existing.getTags());
+                if (existing.refreshFrom(crawled.get(existing.getUrl()))) {
+                    if (!existing.isDuplicate()) {
+                        long postId = existing.getId();
+                        Long newSimhash = existing.getSimhash();
+                        Set<String> newTags = new HashSet<>(existing.getTags());
+                        afterCommit(() -> {
+                            nearDuplicateDetector.replace(postId, oldSimhash, newSimhash);
+                            tagCooccurrenceIndex.replace(oldTags, newTags);
+                        });
+                    }
+                    updated.add(existing);
+                    log.info("변경된 포스트 갱신: {}", existing.getTitle());
+                }
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 메모리 인덱스 반영 (롤백된 포스트가 인덱스에 남지 않도록)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Set<String> findExistingUrls(Collection<String> urls) {
+        List<String> urlList = new ArrayList<>(urls);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < urlList.size(); from += URL_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + URL_LOOKUP_CHUNK_SIZE, urlList.size());
+            existing.addAll(blogPostRepository.findExistingUrls(urlList.subList(from, to)));
+        }
+        return existing;
+    }
+}
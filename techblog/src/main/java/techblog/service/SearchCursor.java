@@ -0,0 +1,100 @@
+package techblog.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import techblog.dto.request.BlogSearchRequest;
+import techblog.exception.BusinessException;
+import techblog.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 커서 기반 페이지 위치 (클라이언트에는 base64url JSON 문자열로만 전달)
+ * ES 검색은 point-in-time id와 마지막 글의 정렬 값(search_after), 조건 없는 목록은 마지막 글의 (publishDate, id)를 담는다
+ *
+ * @param query       커서를 만든 검색 조건의 해시 (다른 조건으로 이어서 요청하면 거부)
+ * @param pitId       ES point-in-time id
+ * @param searchAfter ES 정렬 값
+ * @param publishDate MySQL keyset 위치 (null이면 게시일 없는 글 구간)
+ * @param id          MySQL keyset 위치
+ */
+public record SearchCursor(
+        int query,
+        String pitId,
+        List<Object> searchAfter,
+        LocalDateTime publishDate,
+        Long id
+) {
+    public static SearchCursor ofSearch(BlogSearchRequest request, String pitId, List<FieldValue> sort) {
+        List<Object> values = new ArrayList<>();
+        for (FieldValue value : sort) {
+            values.add(value.isNull() ? null : value._get());
+        }
+        return new SearchCursor(queryHash(request), pitId, values, null, null);
+    }
+
+    public static SearchCursor ofKeyset(BlogSearchRequest request, LocalDateTime publishDate, Long id) {
+        return new SearchCursor(queryHash(request), null, null, publishDate, id);
+    }
+
+    @JsonIgnore
+    public boolean isSearch() {
+        return pitId != null;
+    }
+
+    public List<FieldValue> searchAfterValues() {
+        List<FieldValue> values = new ArrayList<>();
+        for (Object value : searchAfter) {
+            if (value == null) {
+                values.add(FieldValue.NULL);
+            } else if (value instanceof Integer || value instanceof Long) {
+                values.add(FieldValue.of(((Number) value).longValue()));
+            } else if (value instanceof Number number) {
+                values.add(FieldValue.of(number.doubleValue()));
+            } else if (value instanceof Boolean bool) {
+                values.add(FieldValue.of(bool));
+            } else {
+                values.add(FieldValue.of(value.toString()));
+            }
+        }
+        return values;
+    }
+
+    public String encode(ObjectMapper objectMapper) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("커서 생성 실패", e);
+        }
+    }
+
+    /**
+     * 커서 해석, 형식이 잘못되었거나 다른 검색 조건으로 만든 커서면 INVALID_CURSOR
+     */
+    public static SearchCursor decode(String cursor, BlogSearchRequest request, ObjectMapper objectMapper) {
+        SearchCursor decoded;
+        try {
+            decoded = objectMapper.readValue(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), SearchCursor.class);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        boolean positioned = decoded.isSearch() ? decoded.searchAfter() != null : decoded.id() != null;
+        if (!positioned || decoded.query() != queryHash(request)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        return decoded;
+    }
+
+    private static int queryHash(BlogSearchRequest request) {
+        return Objects.hash(request.keyword(), request.companies(), request.tags(),
+                request.startDate(), request.endDate());
+    }
+}
@@ -0,0 +1,33 @@
+package techblog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 인덱스 세대 번호 (Redis 카운터, 모든 인스턴스 공유)
+ * 색인이 반영될 때마다 1씩 올리고, 검색 결과 캐시 키에 포함해서 이전 세대의 결과를 더 이상 읽지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexGeneration {
+    private static final String KEY = "search:index-generation";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long current() {
+        String value = redisTemplate.opsForValue().get(KEY);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public void bump() {
+        try {
+            redisTemplate.opsForValue().increment(KEY);
+        } catch (Exception e) {
+            // 세대가 바뀌지 않아도 캐시 항목은 TTL이 지나면 만료됨
+            log.warn("검색 인덱스 세대 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
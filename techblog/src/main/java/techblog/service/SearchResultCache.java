@@ -0,0 +1,172 @@
+package techblog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import techblog.dto.request.BlogSearchRequest;
+import techblog.dto.response.BlogPostResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 검색 결과 캐시 (Redis)
+ * 키: 검색 인덱스 세대 + 정규화한 검색 조건/페이지의 해시, 값: gzip으로 압축한 결과 JSON
+ * 새 글이 색인되면 세대가 바뀌어 이전 결과는 읽히지 않고 TTL이 지나면 사라진다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+    private static final String KEY_PREFIX = "cache:search:";
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final SearchIndexGeneration searchIndexGeneration;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.cache.search.ttl:10m}")
+    private Duration ttl;
+
+    // 이 페이지 번호까지만 캐시 (깊은 페이지는 반복되는 일이 드물어 캐시만 차지함)
+    @Value("${application.cache.search.max-page:5}")
+    private int maxPage;
+
+    private Counter hits;
+    private Counter misses;
+    private Timer lookupLatency;
+
+    /**
+     * 캐시에 저장하는 검색 결과
+     */
+    private record CachedPage(List<BlogPostResponse> content, long total) {
+    }
+
+    @PostConstruct
+    public void init() {
+        hits = meterRegistry.counter("cache.search.requests", "result", "hit");
+        misses = meterRegistry.counter("cache.search.requests", "result", "miss");
+        lookupLatency = Timer.builder("cache.search.lookup")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader로 검색한 결과를 저장 (Redis 오류 시 캐시 없이 검색)
+     */
+    public Page<BlogPostResponse> get(BlogSearchRequest request, Pageable pageable,
+                                      Supplier<Page<BlogPostResponse>> loader) {
+        if (pageable.getPageNumber() > maxPage) {
+            return loader.get();
+        }
+
+        String key;
+        long start = System.nanoTime();
+        try {
+            key = key(request, pageable);
+            byte[] cached = binaryRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                CachedPage page = decode(cached);
+                hits.increment();
+                lookupLatency.record(Duration.ofNanos(System.nanoTime() - start));
+                return new PageImpl<>(page.content(), pageable, page.total());
+            }
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 조회 실패, 캐시 없이 검색: {}", e.getMessage());
+            return loader.get();
+        }
+
+        misses.increment();
+        Page<BlogPostResponse> result = loader.get();
+        try {
+            binaryRedisTemplate.opsForValue().set(key,
+                    encode(new CachedPage(result.getContent(), result.getTotalElements())), ttl);
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 같은 의미의 검색이 같은 키가 되도록 정규화 (검색어 공백/대소문자, 회사/태그 순서와 중복)
+     */
+    private String key(BlogSearchRequest request, Pageable pageable) {
+        String normalized = String.join("|",
+                normalizeKeyword(request.keyword()),
+                normalizeTerms(request.companies(), false),
+                normalizeTerms(request.tags(), true),
+                Objects.toString(request.startDate(), ""),
+                Objects.toString(request.endDate(), ""),
+                String.valueOf(pageable.getPageNumber()),
+                String.valueOf(pageable.getPageSize()),
+                pageable.getSort().toString());
+        return KEY_PREFIX + searchIndexGeneration.current() + ":" + sha256(normalized);
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        return StringUtils.hasText(keyword)
+                ? keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+                : "";
+    }
+
+    private static String normalizeTerms(List<String> terms, boolean lowerCase) {
+        if (CollectionUtils.isEmpty(terms)) {
+            return "";
+        }
+        return String.join(",", terms.stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .map(term -> lowerCase ? term.toLowerCase(Locale.ROOT) : term)
+                .distinct()
+                .sorted()
+                .toList());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            // 키 길이를 줄이기 위해 앞 128비트만 사용
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] encode(CachedPage page) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    private CachedPage decode(byte[] value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return objectMapper.readValue(gzip, CachedPage.class);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package techblog.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import techblog.domain.UrlCanonicalizer;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장된 게시글 URL의 메모리 인덱스
+ * 정규화한 URL의 64비트 지문만 open addressing long 배열에 보관한다 (URL 하나당 12~23바이트, 100만 건에 16MB)
+ * 64비트 지문끼리 충돌할 확률은 수백만 건에서도 무시할 수준이다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeenUrlIndex {
+    private static final int WARMUP_PAGE_SIZE = 5000;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+    // 0은 빈 칸 표시로 사용하므로 지문이 0이면 다른 값으로 바꾼다
+    private static final long EMPTY = 0L;
+
+    private final BlogPostJpaRepository blogPostRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("crawler.seen_urls.size", this, SeenUrlIndex::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * blog_posts의 URL로 인덱스를 채운다 (기존 데이터의 URL도 정규화해서 등록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = blogPostRepository.findUrlsAfter(lastId, PageRequest.of(0, WARMUP_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    add((String) row[1]);
+                }
+            } while (rows.size() == WARMUP_PAGE_SIZE);
+            log.info("URL 인덱스 초기화 완료 - {}건, 테이블 크기: {}", size(), table.length);
+        } catch (Exception e) {
+            log.warn("URL 인덱스 초기화 실패, DB 조회로 중복 확인: {}", e.getMessage());
+        }
+    }
+
+    public boolean contains(String url) {
+        if (url == null) {
+            return false;
+        }
+        long fingerprint = fingerprint(url);
+        lock.readLock().lock();
+        try {
+            long[] current = table;
+            int mask = current.length - 1;
+            for (int i = slot(fingerprint, mask); ; i = (i + 1) & mask) {
+                if (current[i] == EMPTY) {
+                    return false;
+                }
+                if (current[i] == fingerprint) {
+                    return true;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(String url) {
+        if (url == null) {
+            return;
+        }
+        long fingerprint = fingerprint(url);
+        lock.writeLock().lock();
+        try {
+            if (size + 1 > table.length * MAX_LOAD_FACTOR) {
+                resize();
+            }
+            if (insert(table, fingerprint)) {
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void resize() {
+        long[] resized = new long[table.length * 2];
+        for (long fingerprint : table) {
+            if (fingerprint != EMPTY) {
+                insert(resized, fingerprint);
+            }
+        }
+        table = resized;
+    }
+
+    private static boolean insert(long[] target, long fingerprint) {
+        int mask = target.length - 1;
+        for (int i = slot(fingerprint, mask); ; i = (i + 1) & mask) {
+            if (target[i] == EMPTY) {
+                target[i] = fingerprint;
+                return true;
+            }
+            if (target[i] == fingerprint) {
+                return false;
+            }
+        }
+    }
+
+    private static int slot(long fingerprint, int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    /**
+     * 정규화한 URL의 64비트 FNV-1a 해시 (murmur3 fmix64로 비트 분산)
+     */
+    static long fingerprint(String url) {
+        byte[] bytes = UrlCanonicalizer.canonicalize(url).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != EMPTY ? h : 1L;
+    }
+}
@@ -0,0 +1,306 @@
+package techblog.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 동시 출현 행렬 (메모리)
+ * 태그마다 int id를 붙이고, 태그별로 함께 쓰인 태그 id -> 횟수를 primitive 배열 기반 해시맵(행)에 보관한다
+ * 시작할 때 blog_posts의 태그로 채우고, 이후 저장/갱신되는 게시글로 바로 반영하므로 관련 태그 조회에 ES를 쓰지 않는다
+ * 중복으로 연결된 게시글은 같은 내용을 두 번 세지 않도록 제외한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagCooccurrenceIndex {
+    private static final int WARMUP_ID_WINDOW = 5000;
+    // 한 번에 돌려주는 관련 태그 최대 개수
+    private static final int MAX_LIMIT = 100;
+
+    private final BlogPostJpaRepository blogPostRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 이 횟수 미만으로 함께 쓰인 태그는 관련 태그에서 제외 (우연히 한 번 같이 쓰인 태그)
+    @Value("${application.tags.related.min-count:2}")
+    private int minCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    // 태그 id별 게시글 수
+    private int[] documentCounts = new int[256];
+    private IntIntMap[] rows = new IntIntMap[256];
+    private int documents;
+
+    /**
+     * 관련 태그 점수
+     * COUNT: 함께 쓰인 횟수
+     * JACCARD: 함께 쓰인 횟수 / 둘 중 하나라도 있는 게시글 수
+     * PMI: 정규화한 점별 상호정보량 (-1 ~ 1, 자주 쓰이는 태그에 치우치지 않음)
+     */
+    public enum Metric {
+        COUNT, JACCARD, PMI
+    }
+
+    public record RelatedTag(String tag, double score, int count) {
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("tags.cooccurrence.size", this, TagCooccurrenceIndex::tagCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * blog_posts의 태그로 행렬을 채운다 (시작 시점의 최대 id까지, 이후 게시글은 add로 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Long maxId = blogPostRepository.findMaxId();
+            if (maxId == null) {
+                return;
+            }
+            for (long fromId = 0; fromId < maxId; fromId += WARMUP_ID_WINDOW) {
+                long currentId = -1;
+                List<String> tags = new ArrayList<>();
+                for (Object[] row : blogPostRepository.findTagsBetween(fromId, fromId + WARMUP_ID_WINDOW)) {
+                    long id = (Long) row[0];
+                    if (id != currentId && !tags.isEmpty()) {
+                        add(tags);
+                        tags.clear();
+                    }
+                    currentId = id;
+                    tags.add((String) row[1]);
+                }
+                if (!tags.isEmpty()) {
+                    add(tags);
+                }
+            }
+            log.info("태그 동시 출현 행렬 초기화 완료 - 태그 {}개, 게시글 {}건", tagCount(), documents);
+        } catch (Exception e) {
+            log.warn("태그 동시 출현 행렬 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 하나의 태그 반영
+     */
+    public void add(Collection<String> tags) {
+        update(tags, 1);
+    }
+
+    /**
+     * 수정된 게시글의 태그 교체
+     */
+    public void replace(Collection<String> oldTags, Collection<String> newTags) {
+        lock.writeLock().lock();
+        try {
+            update(oldTags, -1);
+            update(newTags, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 함께 쓰인 태그 상위 limit개 (최대 MAX_LIMIT개)
+     */
+    public List<RelatedTag> findRelated(String tag, int limit, Metric metric) {
+        lock.readLock().lock();
+        try {
+            Integer id = tag != null ? ids.get(normalize(tag)) : null;
+            if (id == null || rows[id] == null || limit <= 0) {
+                return List.of();
+            }
+
+            IntIntMap row = rows[id];
+            int k = Math.min(limit, MAX_LIMIT);
+            PriorityQueue<RelatedTag> top = new PriorityQueue<>(Math.min(k, row.size) + 1,
+                    (a, b) -> Double.compare(a.score(), b.score()));
+            for (int i = 0; i < row.keys.length; i++) {
+                int other = row.keys[i];
+                int count = row.values[i];
+                if (other == IntIntMap.EMPTY || count < minCount) {
+                    continue;
+                }
+                double score = score(metric, count, documentCounts[id], documentCounts[other]);
+                if (top.size() < k) {
+                    top.add(new RelatedTag(names.get(other), score, count));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new RelatedTag(names.get(other), score, count));
+                }
+            }
+
+            List<RelatedTag> related = new ArrayList<>(top);
+            related.sort((a, b) -> Double.compare(b.score(), a.score()));
+            return related;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tagCount() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double score(Metric metric, int together, int countA, int countB) {
+        return switch (metric) {
+            case COUNT -> together;
+            case JACCARD -> together / (double) (countA + countB - together);
+            case PMI -> {
+                double pTogether = together / (double) documents;
+                double pmi = Math.log(pTogether / ((countA / (double) documents) * (countB / (double) documents)));
+                // 모든 게시글에 함께 쓰인 경우 분모가 0
+                yield pTogether >= 1.0 ? 1.0 : pmi / -Math.log(pTogether);
+            }
+        };
+    }
+
+    private void update(Collection<String> tags, int delta) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int[] tagIds = tags.stream()
+                    .filter(tag -> tag != null && !tag.isBlank())
+                    .mapToInt(this::idOf)
+                    .distinct()
+                    .toArray();
+            if (tagIds.length == 0) {
+                return;
+            }
+
+            documents += delta;
+            for (int i = 0; i < tagIds.length; i++) {
+                documentCounts[tagIds[i]] += delta;
+                for (int j = i + 1; j < tagIds.length; j++) {
+                    row(tagIds[i]).add(tagIds[j], delta);
+                    row(tagIds[j]).add(tagIds[i], delta);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대소문자만 다른 태그는 같은 id, 응답에는 처음 들어온 표기를 사용
+     */
+    private int idOf(String tag) {
+        String key = normalize(tag);
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        int newId = names.size();
+        ids.put(key, newId);
+        names.add(tag.trim());
+        if (newId >= documentCounts.length) {
+            documentCounts = Arrays.copyOf(documentCounts, documentCounts.length * 2);
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        return newId;
+    }
+
+    private IntIntMap row(int id) {
+        if (rows[id] == null) {
+            rows[id] = new IntIntMap();
+        }
+        return rows[id];
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * int -> int open addressing 해시맵 (박싱 없음, 행 하나에 태그 수만큼만 할당)
+     * 횟수가 0이 된 칸은 값만 0으로 두고 조회 시 건너뛴다
+     */
+    static final class IntIntMap {
+        static final int EMPTY = -1;
+        private static final double MAX_LOAD_FACTOR = 0.6;
+
+        private int[] keys = newKeys(8);
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int key, int delta) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] += delta;
+                    return;
+                }
+                if (keys[i] == EMPTY) {
+                    if (delta <= 0) {
+                        return;
+                    }
+                    keys[i] = key;
+                    values[i] = delta;
+                    if (++size > keys.length * MAX_LOAD_FACTOR) {
+                        resize();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == EMPTY) {
+                    continue;
+                }
+                int i = mix(oldKeys[j]) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package techblog.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import techblog.domain.BlogPost;
+import techblog.dto.response.TrendResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간 트렌드 스냅샷
+ * 트렌드는 요청마다 집계하지 않고 백그라운드에서 미리 계산해서 Redis에 버전을 붙여 저장하고, 각 인스턴스는 메모리에 둔 스냅샷을 반환한다
+ * 검색 인덱스 세대가 바뀌었거나(새 글 색인) 스냅샷이 오래되면 짧은 Redis 잠금을 잡은 한 인스턴스만 다시 계산한다
+ * 크롤링 중에는 세대가 자주 바뀌므로, 세대 변경으로는 스냅샷이 최소 간격보다 오래됐을 때만 다시 계산한다
+ * 계산은 ES 요청 2번: 주간 태그/회사 집계(회사별 최신 글 포함) 1번 + 인기 태그의 함께 쓰인 태그 집계 1번
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendSnapshotService {
+    private static final String INDEX_NAME = "blog-posts";
+    private static final String SNAPSHOT_KEY = "trends:snapshot";
+    private static final String VERSION_KEY = "trends:snapshot:version";
+    private static final String REBUILD_LOCK_KEY = "trends:snapshot:rebuild-lock";
+    private static final int TOP_TAGS = 20;
+    private static final int TOP_COMPANIES = 20;
+    private static final int POSTS_PER_COMPANY = 10;
+    private static final int RELATED_TAGS = 6;
+
+    // 소유자가 같을 때만 삭제 (만료 후 다른 인스턴스가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchIndexGeneration searchIndexGeneration;
+
+    // 새 글이 없어도 이 시간이 지나면 다시 계산 (집계 기간이 계속 이동하므로)
+    @Value("${application.trends.max-age:1h}")
+    private Duration maxAge;
+
+    // 새 글이 색인되어도 스냅샷이 이 시간보다 새것이면 다시 계산하지 않음 (크롤링 중 bulk마다 재계산하지 않도록)
+    @Value("${application.trends.min-rebuild-interval:10m}")
+    private Duration minRebuildInterval;
+
+    // 재계산 잠금 유지 시간 (재계산 소요 시간의 2배 정도, 잠근 인스턴스가 중단되어도 이 시간 뒤에 다른 인스턴스가 재계산)
+    @Value("${application.trends.rebuild-lock-ttl:2m}")
+    private Duration rebuildLockTtl;
+
+    private volatile TrendSnapshot snapshot;
+
+    /**
+     * @param version    저장할 때마다 1씩 증가
+     * @param generation 계산에 사용한 검색 인덱스 세대
+     */
+    public record TrendSnapshot(long version, long generation, TrendResponse trends) {
+    }
+
+    /**
+     * 메모리의 스냅샷 반환 (처음에는 Redis에서 읽고, Redis에도 없으면 계산)
+     */
+    public TrendResponse getWeeklyTrends() {
+        TrendSnapshot current = snapshot;
+        if (current == null) {
+            current = loadOrBuild();
+        }
+        return current.trends();
+    }
+
+    /**
+     * 다른 인스턴스가 저장한 새 스냅샷을 가져오고, 오래된 스냅샷은 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${application.trends.refresh-check:PT1M}",
+            initialDelayString = "${application.trends.refresh-check:PT1M}")
+    public void refreshIfStale() {
+        try {
+            TrendSnapshot stored = loadStored();
+            if (stored != null && (snapshot == null || stored.version() > snapshot.version())) {
+                snapshot = stored;
+            }
+
+            long generation = searchIndexGeneration.current();
+            LocalDateTime now = LocalDateTime.now();
+            boolean stale = stored == null
+                    || stored.trends().analyzedAt().isBefore(now.minus(maxAge))
+                    || (stored.generation() != generation
+                    && stored.trends().analyzedAt().isBefore(now.minus(minRebuildInterval)));
+            // 재계산은 한 인스턴스만
+            if (stale && tryLockRebuild()) {
+                boolean rebuilt = false;
+                try {
+                    rebuild(generation);
+                    rebuilt = true;
+                } finally {
+                    // 실패하면 바로 풀어서 다음 확인 주기에 다시 시도, 성공하면 잠금 시간 동안 다른 인스턴스의 중복 재계산 방지
+                    if (!rebuilt) {
+                        unlockRebuild();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized TrendSnapshot loadOrBuild() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        TrendSnapshot stored = null;
+        try {
+            stored = loadStored();
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷 조회 실패, 직접 계산: {}", e.getMessage());
+        }
+        if (stored != null) {
+            snapshot = stored;
+            return stored;
+        }
+        return rebuild(searchIndexGeneration.current());
+    }
+
+    /**
+     * 트렌드를 계산해서 새 버전으로 저장 (Redis 저장에 실패해도 이 인스턴스에서는 사용)
+     */
+    private TrendSnapshot rebuild(long generation) {
+        long start = System.nanoTime();
+        TrendResponse trends = aggregate();
+
+        TrendSnapshot built;
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            built = new TrendSnapshot(version != null ? version : 0, generation, trends);
+            redisTemplate.opsForValue().set(SNAPSHOT_KEY, objectMapper.writeValueAsString(built));
+        } catch (Exception e) {
+            log.warn("트렌드 스냅샷 저장 실패: {}", e.getMessage());
+            built = new TrendSnapshot(snapshot != null ? snapshot.version() : 0, generation, trends);
+        }
+        snapshot = built;
+        log.info("트렌드 스냅샷 갱신 - 버전 {}, 세대 {}, {}ms", built.version(), generation,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return built;
+    }
+
+    private boolean tryLockRebuild() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(REBUILD_LOCK_KEY, CrawlJobService.INSTANCE_ID, rebuildLockTtl));
+        } catch (Exception e) {
+            log.warn("트렌드 재계산 잠금 실패, 이 인스턴스에서 계산: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void unlockRebuild() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILD_LOCK_KEY), CrawlJobService.INSTANCE_ID);
+        } catch (Exception e) {
+            // 풀지 못한 잠금은 rebuildLockTtl이 지나면 사라짐
+            log.warn("트렌드 재계산 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private TrendSnapshot loadStored() throws IOException {
+        String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY);
+        return json != null ? objectMapper.readValue(json, TrendSnapshot.class) : null;
+    }
+
+    private TrendResponse aggregate() {
+        try {
+            LocalDateTime startDate = LocalDateTime.now().minusWeeks(1);
+
+            SearchRequest searchRequest = SearchRequest.of(s -> s
+                    .index(INDEX_NAME)
+                    .size(0)
+                    .query(q -> q
+                            .range(r -> r
+                                    .field("publishDate")
+                                    .from(startDate.toString())
+                            )
+                    )
+                    .aggregations("tags", a -> a
+                            .terms(t -> t
+                                    .field("tags")
+                                    .size(TOP_TAGS)
+                            )
+                            .aggregations("weekly", a2 -> a2
+                                    .dateHistogram(h -> h
+                                            .field("publishDate")
+                                            .calendarInterval(CalendarInterval.Week)
+                                    )
+                            )
+                    )
+                    // 회사별 최신 글 제목은 회사 버킷 안의 top_hits로 함께 가져온다
+                    .aggregations("companies", a -> a
+                            .terms(t -> t
+                                    .field("company")
+                                    .size(TOP_COMPANIES)
+                            )
+                            .aggregations("latest", a2 -> a2
+                                    .topHits(th -> th
+                                            .size(POSTS_PER_COMPANY)
+                                            .source(src -> src.filter(f -> f.includes("title")))
+                                            .sort(so -> so.field(f -> f.field("publishDate").order(SortOrder.Desc)))
+                                    )
+                            )
+                    )
+            );
+
+            SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
+
+            List<StringTermsBucket> tagBuckets = response.aggregations().get("tags").sterms().buckets().array();
+            List<String> tags = tagBuckets.stream().map(bucket -> bucket.key().stringValue()).toList();
+            Map<String, List<String>> relatedTags = findRelatedTags(tags);
+
+            List<TrendResponse.KeywordTrend> keywordTrends = tagBuckets.stream()
+                    .map(bucket -> new TrendResponse.KeywordTrend(
+                            bucket.key().stringValue(),
+                            bucket.docCount(),
+                            calculateGrowthRate(bucket),
+                            relatedTags.getOrDefault(bucket.key().stringValue(), List.of())
+                    ))
+                    .toList();
+
+            Map<String, List<String>> companyTrends = new HashMap<>();
+            for (StringTermsBucket bucket : response.aggregations().get("companies").sterms().buckets().array()) {
+                List<String> titles = bucket.aggregations().get("latest").topHits().hits().hits().stream()
+                        .map(hit -> hit.source() != null
+                                ? hit.source().toJson().asJsonObject().getString("title", "")
+                                : "")
+                        .toList();
+                companyTrends.put(bucket.key().stringValue(), titles);
+            }
+
+            return new TrendResponse(keywordTrends, companyTrends, LocalDateTime.now());
+
+        } catch (IOException e) {
+            log.error("Error while getting trends", e);
+            throw new RuntimeException("Failed to get trends", e);
+        }
+    }
+
+    /**
+     * 인기 태그별로 함께 쓰인 태그를 한 번의 집계로 구한다 (태그 버킷 안의 태그 terms 집계)
+     */
+    private Map<String, List<String>> findRelatedTags(List<String> tags) throws IOException {
+        if (tags.isEmpty()) {
+            return Map.of();
+        }
+
+        SearchRequest searchRequest = SearchRequest.of(s -> s
+                .index(INDEX_NAME)
+                .size(0)
+                .query(q -> q
+                        .terms(t -> t
+                                .field("tags")
+                                .terms(t2 -> t2.value(tags.stream().map(FieldValue::of).toList()))
+                        )
+                )
+                .aggregations("tags", a -> a
+                        .terms(t -> t
+                                .field("tags")
+                                .size(tags.size())
+                                .include(i -> i.terms(tags))
+                        )
+                        .aggregations("related", a2 -> a2
+                                .terms(t -> t
+                                        .field("tags")
+                                        // 자기 자신이 항상 1위이므로 하나 더 가져와서 제외
+                                        .size(RELATED_TAGS + 1)
+                                )
+                        )
+                )
+        );
+
+        SearchResponse<BlogPost> response = elasticsearchClient.search(searchRequest, BlogPost.class);
+
+        Map<String, List<String>> relatedTags = new LinkedHashMap<>();
+        for (StringTermsBucket bucket : response.aggregations().get("tags").sterms().buckets().array()) {
+            String tag = bucket.key().stringValue();
+            List<String> related = new ArrayList<>();
+            for (StringTermsBucket relatedBucket : bucket.aggregations().get("related").sterms().buckets().array()) {
+                String relatedTag = relatedBucket.key().stringValue();
+                if (!relatedTag.equals(tag) && related.size() < RELATED_TAGS) {
+                    related.add(relatedTag);
+                }
+            }
+            relatedTags.put(tag, related);
+        }
+        return relatedTags;
+    }
+
+    private double calculateGrowthRate(StringTermsBucket bucket) {
+        var weeklyBuckets = bucket.aggregations()
+                .get("weekly")
+                .dateHistogram()
+                .buckets()
+                .array();
+
+        if (weeklyBuckets.size() < 2) return 0.0;
+
+        long currentCount = weeklyBuckets.get(weeklyBuckets.size() - 1).docCount();
+        long previousCount = weeklyBuckets.get(weeklyBuckets.size() - 2).docCount();
+
+        if (previousCount == 0) return 100.0;
+        return ((currentCount - previousCount) / (double) previousCount) * 100;
+    }
+}
@@ -0,0 +1,137 @@
+package techblog.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTest {
+
+	private static final String NAME = "posts";
+
+	// 두 인스턴스가 같은 Redis(L2)를 공유하는 상황
+	private final ConcurrentMapCache remote = new ConcurrentMapCache(NAME);
+
+	private Instance first;
+	private Instance second;
+
+	private record Instance(TwoLevelCacheManager manager, TwoLevelCache cache, RedisTemplate<String, String> redis) {
+	}
+
+	@BeforeEach
+	void setUp() {
+		first = newInstance();
+		second = newInstance();
+	}
+
+	@Test
+	void readsThroughRemoteAndKeepsValueLocally() {
+		remote.put("k", "v1");
+
+		assertThat(first.cache().get("k", String.class)).isEqualTo("v1");
+
+		// L1에 채워졌으므로 L2가 바뀌어도 알림 전까지는 로컬 값
+		remote.put("k", "v2");
+		assertThat(first.cache().get("k", String.class)).isEqualTo("v1");
+	}
+
+	@Test
+	void evictOnOneInstanceDropsLocalCopyOnOthers() {
+		remote.put("k", "v1");
+		second.cache().get("k");
+
+		first.cache().evict("k");
+		remote.put("k", "v2");
+		second.manager().onMessage(published(first), null);
+
+		assertThat(second.cache().get("k", String.class)).isEqualTo("v2");
+	}
+
+	@Test
+	void putOnOneInstanceDropsStaleLocalCopyOnOthers() {
+		first.cache().put("k", "v1");
+		second.cache().get("k");
+
+		first.cache().put("k", "v2");
+		second.manager().onMessage(published(first), null);
+
+		assertThat(second.cache().get("k", String.class)).isEqualTo("v2");
+	}
+
+	@Test
+	void clearOnOneInstanceClearsOthers() {
+		remote.put("a", "1");
+		remote.put("b", "2");
+		second.cache().get("a");
+		second.cache().get("b");
+
+		first.cache().clear();
+		second.manager().onMessage(published(first), null);
+
+		assertThat(second.cache().get("a")).isNull();
+		assertThat(second.cache().get("b")).isNull();
+	}
+
+	@Test
+	void ignoresOwnMessages() {
+		remote.put("k", "v1");
+		first.cache().get("k");
+		first.cache().evict("other");
+		String instanceId = body(published(first)).split("\n")[0];
+
+		remote.put("k", "v2");
+		// 자기가 보낸 전체 삭제 알림은 무시하므로 L1은 그대로
+		first.manager().onMessage(message(instanceId + "\n" + NAME), null);
+
+		assertThat(first.cache().get("k", String.class)).isEqualTo("v1");
+	}
+
+	@Test
+	void loadsMissingValueOnce() {
+		AtomicInteger loads = new AtomicInteger();
+
+		first.cache().get("k", () -> "v" + loads.incrementAndGet());
+		first.cache().get("k", () -> "v" + loads.incrementAndGet());
+
+		assertThat(loads).hasValue(1);
+		assertThat(remote.get("k", String.class)).isEqualTo("v1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Instance newInstance() {
+		RedisTemplate<String, String> redis = mock(RedisTemplate.class);
+		TwoLevelCacheManager manager = new TwoLevelCacheManager(redis);
+		TwoLevelCache cache = new TwoLevelCache(NAME, Caffeine.newBuilder().build(), remote, manager);
+		manager.setCaches(Map.of(NAME, cache));
+		return new Instance(manager, cache, redis);
+	}
+
+	private static DefaultMessage published(Instance instance) {
+		ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+		verify(instance.redis(), atLeastOnce())
+				.convertAndSend(eq(TwoLevelCacheManager.CHANNEL), sent.capture());
+		return message(sent.getValue());
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String body(DefaultMessage message) {
+		return new String(message.getBody(), StandardCharsets.UTF_8);
+	}
+}
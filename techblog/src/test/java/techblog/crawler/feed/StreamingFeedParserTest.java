@@ -0,0 +1,155 @@
+package techblog.crawler.feed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class StreamingFeedParserTest {
+
+	private StreamingFeedParser parser;
+
+	@BeforeEach
+	void setUp() {
+		parser = new StreamingFeedParser();
+		ReflectionTestUtils.setField(parser, "maxEntries", 200);
+		ReflectionTestUtils.setField(parser, "maxEntrySize", DataSize.ofKilobytes(512));
+	}
+
+	@Test
+	void parsesRssItems() throws Exception {
+		List<FeedEntry> entries = parse("""
+				<rss version="2.0" xmlns:content="http://purl.org/rss/1.0/modules/content/">
+				  <channel>
+				    <title>블로그</title>
+				    <item>
+				      <title> 첫 번째 글 </title>
+				      <link>https://blog.example.com/posts/1</link>
+				      <description>요약</description>
+				      <content:encoded><![CDATA[<p>본문</p>]]></content:encoded>
+				      <pubDate>Tue, 10 Sep 2024 09:30:00 +0900</pubDate>
+				    </item>
+				  </channel>
+				</rss>
+				""");
+
+		assertThat(entries).hasSize(1);
+		FeedEntry entry = entries.get(0);
+		assertThat(entry.title()).isEqualTo("첫 번째 글");
+		assertThat(entry.link()).isEqualTo("https://blog.example.com/posts/1");
+		assertThat(entry.content()).isEqualTo("요약");
+		assertThat(entry.publishDate()).isEqualTo(local("2024-09-10T09:30:00+09:00"));
+	}
+
+	@Test
+	void parsesAtomEntries() throws Exception {
+		List<FeedEntry> entries = parse("""
+				<feed xmlns="http://www.w3.org/2005/Atom">
+				  <entry>
+				    <title>Atom 글</title>
+				    <link rel="self" href="https://blog.example.com/feed/1"/>
+				    <link rel="alternate" href="https://blog.example.com/posts/1"/>
+				    <content type="html">&lt;p&gt;본문&lt;/p&gt;</content>
+				    <updated>2024-09-11T01:00:00Z</updated>
+				    <published>2024-09-10T00:00:00Z</published>
+				  </entry>
+				</feed>
+				""");
+
+		assertThat(entries).hasSize(1);
+		FeedEntry entry = entries.get(0);
+		assertThat(entry.link()).isEqualTo("https://blog.example.com/posts/1");
+		assertThat(entry.content()).isEqualTo("<p>본문</p>");
+		// published가 있으면 updated보다 우선
+		assertThat(entry.publishDate()).isEqualTo(local("2024-09-10T00:00:00Z"));
+	}
+
+	@Test
+	void parsesRfc822DateVariants() {
+		assertThat(StreamingFeedParser.parseDate("Tue, 10 Sep 2024 09:30:00 GMT"))
+				.isEqualTo(local("2024-09-10T09:30:00Z"));
+		// 요일과 초 생략
+		assertThat(StreamingFeedParser.parseDate("10 Sep 2024 09:30 +0000"))
+				.isEqualTo(local("2024-09-10T09:30:00Z"));
+		assertThat(StreamingFeedParser.parseDate("2024-09-10T09:30:00+09:00"))
+				.isEqualTo(local("2024-09-10T09:30:00+09:00"));
+		assertThat(StreamingFeedParser.parseDate("2024-09-10"))
+				.isEqualTo(LocalDateTime.of(2024, 9, 10, 0, 0));
+		assertThat(StreamingFeedParser.parseDate("어제")).isNull();
+		assertThat(StreamingFeedParser.parseDate(" ")).isNull();
+	}
+
+	@Test
+	void stopsWhenHandlerReturnsFalse() throws Exception {
+		String feed = "<rss><channel>"
+				+ "<item><title>1</title></item><item><title>2</title></item><item><title>3</title></item>"
+				+ "</channel></rss>";
+		List<String> titles = new ArrayList<>();
+
+		int count = parser.parse(stream(feed), entry -> {
+			titles.add(entry.title());
+			return titles.size() < 2;
+		});
+
+		assertThat(count).isEqualTo(2);
+		assertThat(titles).containsExactly("1", "2");
+	}
+
+	@Test
+	void limitsEntriesAndContentSize() throws Exception {
+		ReflectionTestUtils.setField(parser, "maxEntries", 2);
+		ReflectionTestUtils.setField(parser, "maxEntrySize", DataSize.ofBytes(5));
+		String feed = "<rss><channel>"
+				+ "<item><description>0123456789</description></item><item/><item/>"
+				+ "</channel></rss>";
+
+		List<FeedEntry> entries = parse(feed);
+
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).content()).isEqualTo("01234");
+	}
+
+	@Test
+	void doesNotResolveExternalEntities(@TempDir Path dir) throws Exception {
+		Path secret = Files.writeString(dir.resolve("secret.txt"), "TOP-SECRET");
+		String feed = "<?xml version=\"1.0\"?>"
+				+ "<!DOCTYPE rss [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>"
+				+ "<rss><channel><item><title>&xxe;</title></item></channel></rss>";
+		List<FeedEntry> entries = new ArrayList<>();
+
+		Throwable error = catchThrowable(() -> parser.parse(stream(feed), entries::add));
+
+		// DTD를 처리하지 않으므로 선언되지 않은 엔티티로 실패하고, 파일 내용은 읽지 않는다
+		assertThat(error).isInstanceOf(XMLStreamException.class);
+		assertThat(entries).noneMatch(entry -> String.valueOf(entry.title()).contains("TOP-SECRET"));
+	}
+
+	private List<FeedEntry> parse(String feed) throws XMLStreamException {
+		List<FeedEntry> entries = new ArrayList<>();
+		parser.parse(stream(feed), entries::add);
+		return entries;
+	}
+
+	private static ByteArrayInputStream stream(String feed) {
+		return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static LocalDateTime local(String isoDateTime) {
+		return ZonedDateTime.parse(isoDateTime).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+	}
+}
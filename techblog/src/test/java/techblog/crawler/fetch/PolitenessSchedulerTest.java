@@ -0,0 +1,117 @@
+package techblog.crawler.fetch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PolitenessSchedulerTest {
+
+	private static final String URL = "https://blog.example.com/posts/1";
+
+	// 속도 제한은 사실상 없애고 호스트당 동시 요청 1개만 허용
+	private final PolitenessScheduler scheduler = new PolitenessScheduler(
+			1000.0, 100, 1, 3, Duration.ofMillis(1), Duration.ofMillis(10));
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void holdsHostPermitUntilReleased() throws Exception {
+		PolitenessScheduler.Permit permit = scheduler.executeHeld(URL, held -> held);
+
+		CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> fetch(URL), executor);
+
+		// 응답을 닫기 전에는 같은 호스트의 다음 요청이 자리를 얻지 못한다
+		assertThatThrownBy(() -> next.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+		permit.release();
+		assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+	}
+
+	@Test
+	void releasesPermitOnlyOnce() throws Exception {
+		PolitenessScheduler.Permit permit = scheduler.executeHeld(URL, held -> held);
+		permit.release();
+		permit.release();
+
+		// 두 번 반환해도 자리는 하나만 늘어나므로, 다시 잡으면 다음 요청은 기다린다
+		PolitenessScheduler.Permit again = scheduler.executeHeld(URL, held -> held);
+		CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> fetch(URL), executor);
+
+		assertThatThrownBy(() -> next.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+		again.release();
+		assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+	}
+
+	@Test
+	void otherHostsDoNotWait() throws Exception {
+		PolitenessScheduler.Permit permit = scheduler.executeHeld(URL, held -> held);
+		try {
+			CompletableFuture<String> other = CompletableFuture.supplyAsync(
+					() -> fetch("https://other.example.com/posts/1"), executor);
+
+			assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+		} finally {
+			permit.release();
+		}
+	}
+
+	@Test
+	void retriesRetryableFailuresAndReleasesPermitEachTime() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = scheduler.execute(URL, () -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new HttpFetchException(URL, 503, "0");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+		// 실패한 시도마다 자리를 돌려줬으므로 다음 요청이 바로 실행된다
+		assertThat(CompletableFuture.supplyAsync(() -> fetch(URL), executor).get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+	}
+
+	@Test
+	void doesNotRetryClientErrors() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> scheduler.execute(URL, () -> {
+			attempts.incrementAndGet();
+			throw new HttpFetchException(URL, 404, null);
+		})).isInstanceOf(HttpFetchException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void givesUpAfterMaxAttempts() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> scheduler.execute(URL, () -> {
+			attempts.incrementAndGet();
+			throw new HttpFetchException(URL, 429, "0");
+		})).isInstanceOf(HttpFetchException.class);
+		assertThat(attempts).hasValue(3);
+	}
+
+	private String fetch(String url) {
+		try {
+			return scheduler.execute(url, () -> "ok");
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package techblog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+	private static final String ARTICLE = """
+			대규모 트래픽을 처리하기 위해 우리는 서비스의 캐시 계층을 다시 설계했습니다.
+			기존에는 요청마다 데이터베이스를 조회했기 때문에 피크 시간에 응답 시간이 크게 늘어났고,
+			이를 해결하기 위해 로컬 캐시와 분산 캐시를 함께 사용하는 구조를 도입했습니다.
+			로컬 캐시는 짧은 TTL을 두고 변경이 생기면 메시지로 모든 인스턴스에 무효화를 전파합니다.
+			분산 캐시는 직렬화 비용을 줄이기 위해 값 타입을 지정한 JSON 형식을 사용합니다.
+			그 결과 평균 응답 시간은 절반으로 줄었고 데이터베이스 부하도 크게 감소했습니다.
+			""";
+
+	@Test
+	void returnsNullForShortOrMissingText() {
+		assertThat(SimHash.of(null)).isNull();
+		assertThat(SimHash.of("짧은 본문입니다")).isNull();
+	}
+
+	@Test
+	void ignoresMarkupAndCase() {
+		// 태그는 단어 구분자로 취급되므로 단어 경계에 있는 태그만으로는 서명이 바뀌지 않는다
+		String html = ARTICLE.lines()
+				.map(line -> "<p class=\"lead\">" + line + "</p>")
+				.collect(Collectors.joining("\n", "<article>", "</article>"));
+
+		assertThat(SimHash.of(html)).isEqualTo(SimHash.of(ARTICLE));
+		assertThat(SimHash.of(ARTICLE.toUpperCase() + " TTL"))
+				.isEqualTo(SimHash.of(ARTICLE.toLowerCase() + " ttl"));
+	}
+
+	@Test
+	void nearDuplicatesHaveCloseSignatures() {
+		long original = SimHash.of(ARTICLE);
+		long edited = SimHash.of(ARTICLE.replace("절반으로", "40% 정도"));
+		long unrelated = SimHash.of("""
+				이번 글에서는 모바일 앱의 빌드 시간을 줄인 경험을 공유합니다. 모듈을 잘게 나누고
+				변경된 모듈만 다시 빌드하도록 의존성 그래프를 정리했으며, 원격 빌드 캐시를 도입해서
+				개발자 장비와 CI 서버가 빌드 결과를 공유하게 했습니다. 그 결과 전체 빌드 시간이 크게 줄었습니다.
+				""");
+
+		assertThat(SimHash.distance(original, edited)).isLessThan(SimHash.distance(original, unrelated));
+		assertThat(SimHash.distance(original, unrelated)).isGreaterThan(10);
+	}
+
+	@Test
+	void distanceCountsDifferentBits() {
+		assertThat(SimHash.distance(0L, 0L)).isZero();
+		assertThat(SimHash.distance(0b1011L, 0b0001L)).isEqualTo(2);
+		assertThat(SimHash.distance(0L, -1L)).isEqualTo(64);
+	}
+}
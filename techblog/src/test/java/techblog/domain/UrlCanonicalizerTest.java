@@ -0,0 +1,68 @@
+package techblog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlCanonicalizerTest {
+
+	@Test
+	void removesTrackingParamsFragmentAndTrailingSlash() {
+		assertThat(UrlCanonicalizer.canonicalize(
+				"https://blog.example.com/posts/1/?utm_source=rss&utm_Medium=feed&page=2&fbclid=abc#comments"))
+				.isEqualTo("https://blog.example.com/posts/1?page=2");
+		assertThat(UrlCanonicalizer.canonicalize("https://blog.example.com/posts/1?gclid=x&&"))
+				.isEqualTo("https://blog.example.com/posts/1");
+	}
+
+	@Test
+	void keepsParamsThatMaySelectContent() {
+		// ref, source는 추적이 아니라 글/버전을 고르는 데 쓰일 수 있으므로 남긴다
+		assertThat(UrlCanonicalizer.canonicalize("https://git.example.com/docs/1?ref=v2&source=raw&utm_source=rss"))
+				.isEqualTo("https://git.example.com/docs/1?ref=v2&source=raw");
+	}
+
+	@Test
+	void normalizesHostCaseAndDefaultPort() {
+		assertThat(UrlCanonicalizer.canonicalize("HTTPS://Blog.Example.COM:443/Posts/1"))
+				.isEqualTo("https://blog.example.com/Posts/1");
+		assertThat(UrlCanonicalizer.canonicalize("http://blog.example.com:80/posts/1"))
+				.isEqualTo("http://blog.example.com/posts/1");
+		assertThat(UrlCanonicalizer.canonicalize("https://blog.example.com:8443/posts/1"))
+				.isEqualTo("https://blog.example.com:8443/posts/1");
+	}
+
+	@Test
+	void keepsOriginalScheme() {
+		// https를 지원하지 않는 블로그가 있으므로 http를 https로 바꾸지 않는다
+		assertThat(UrlCanonicalizer.canonicalize("http://blog.example.com/posts/1"))
+				.isEqualTo("http://blog.example.com/posts/1");
+		// 스킴에 맞지 않는 포트는 기본 포트가 아니므로 남긴다
+		assertThat(UrlCanonicalizer.canonicalize("http://blog.example.com:443/posts/1"))
+				.isEqualTo("http://blog.example.com:443/posts/1");
+	}
+
+	@Test
+	void keepsEncodedPathAndRootUrl() {
+		assertThat(UrlCanonicalizer.canonicalize("https://blog.example.com/%EA%B8%80/1"))
+				.isEqualTo("https://blog.example.com/%EA%B8%80/1");
+		assertThat(UrlCanonicalizer.canonicalize("https://blog.example.com/"))
+				.isEqualTo("https://blog.example.com");
+	}
+
+	@Test
+	void returnsUnparseableOrNonHttpUrlsTrimmed() {
+		assertThat(UrlCanonicalizer.canonicalize(null)).isNull();
+		assertThat(UrlCanonicalizer.canonicalize(" ")).isEqualTo(" ");
+		assertThat(UrlCanonicalizer.canonicalize(" /posts/1 ")).isEqualTo("/posts/1");
+		assertThat(UrlCanonicalizer.canonicalize("ftp://files.example.com/a/")).isEqualTo("ftp://files.example.com/a/");
+		assertThat(UrlCanonicalizer.canonicalize("https://blog.example.com/a b")).isEqualTo("https://blog.example.com/a b");
+	}
+
+	@Test
+	void isIdempotent() {
+		String once = UrlCanonicalizer.canonicalize("HTTP://Blog.Example.com:80/posts/1/?utm_campaign=x&id=3#top");
+
+		assertThat(UrlCanonicalizer.canonicalize(once)).isEqualTo(once);
+	}
+}
@@ -0,0 +1,135 @@
+package techblog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import techblog.crawler.CrawlMode;
+import techblog.domain.CrawlJob;
+import techblog.repository.jpa.CrawlJobRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlJobServiceTest {
+
+	private static final long JOB_ID = 1L;
+
+	private CrawlJobRepository repository;
+	private CrawlJobService service;
+	private CrawlJob job;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(CrawlJobRepository.class);
+		service = new CrawlJobService(repository);
+		ReflectionTestUtils.setField(service, "lease", Duration.ofMinutes(15));
+		ReflectionTestUtils.setField(service, "maxAttempts", 3);
+		ReflectionTestUtils.setField(service, "retryBackoff", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(service, "retryMaxBackoff", Duration.ofMinutes(3));
+
+		job = CrawlJob.source("run-1", CrawlMode.INCREMENTAL, "toss");
+		when(repository.findById(JOB_ID)).thenReturn(Optional.of(job));
+		when(repository.findClaimable(isNull(), eq(CrawlJob.Status.PENDING), eq(CrawlJob.Status.RUNNING),
+				any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(job));
+	}
+
+	@Test
+	void claimLeasesJobsToThisInstance() {
+		List<CrawlJob> claimed = service.claim(null, 10);
+
+		assertThat(claimed).containsExactly(job);
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.RUNNING);
+		assertThat(job.getAttempts()).isEqualTo(1);
+		assertThat(job.getLeaseOwner()).isEqualTo(CrawlJobService.INSTANCE_ID);
+		assertThat(job.getLeaseUntil()).isCloseTo(LocalDateTime.now().plusMinutes(15), within(5, ChronoUnit.SECONDS));
+		assertThat(job.getAvailableAt()).isNull();
+	}
+
+	@Test
+	void failBacksOffExponentiallyUpToMaxBackoff() {
+		service.claim(null, 10);
+		service.fail(JOB_ID, "timeout");
+
+		// 첫 실패: 1분 뒤에 다시 가져갈 수 있음
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.PENDING);
+		assertThat(job.getLastError()).isEqualTo("timeout");
+		assertThat(job.getLeaseOwner()).isNull();
+		assertThat(job.getLeaseUntil()).isNull();
+		assertThat(job.getAvailableAt()).isCloseTo(LocalDateTime.now().plusMinutes(1), within(5, ChronoUnit.SECONDS));
+
+		// 두 번째 실패: 2분
+		service.claim(null, 10);
+		service.fail(JOB_ID, "timeout");
+		assertThat(job.getAvailableAt()).isCloseTo(LocalDateTime.now().plusMinutes(2), within(5, ChronoUnit.SECONDS));
+	}
+
+	@Test
+	void failCapsBackoff() {
+		ReflectionTestUtils.setField(service, "maxAttempts", 10);
+		for (int i = 0; i < 4; i++) {
+			service.claim(null, 10);
+			service.fail(JOB_ID, "timeout");
+		}
+
+		// 네 번째 실패는 8분이지만 최대 3분
+		assertThat(job.getAvailableAt()).isCloseTo(LocalDateTime.now().plusMinutes(3), within(5, ChronoUnit.SECONDS));
+	}
+
+	@Test
+	void failEndsJobAfterMaxAttempts() {
+		for (int i = 0; i < 3; i++) {
+			service.claim(null, 10);
+			service.fail(JOB_ID, "timeout");
+		}
+
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.FAILED);
+		assertThat(job.getAttempts()).isEqualTo(3);
+	}
+
+	@Test
+	void postponeRestoresAttemptAndDelaysJob() {
+		service.claim(null, 10);
+		service.postpone(JOB_ID);
+
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.PENDING);
+		assertThat(job.getAttempts()).isZero();
+		assertThat(job.getLeaseOwner()).isNull();
+		// 바로 다시 가져가지 않도록 재시도 대기 시간만큼 미룬다
+		assertThat(job.getAvailableAt()).isCloseTo(LocalDateTime.now().plusMinutes(1), within(5, ChronoUnit.SECONDS));
+	}
+
+	@Test
+	void abandonFailsWithoutRetry() {
+		service.claim(null, 10);
+		service.abandon(JOB_ID, "상세 페이지 수집 미지원");
+
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.FAILED);
+		assertThat(job.getAttempts()).isEqualTo(1);
+		assertThat(job.getLastError()).isEqualTo("상세 페이지 수집 미지원");
+	}
+
+	@Test
+	void enqueueSkipsArticleAlreadyWaiting() {
+		String url = "https://blog.example.com/posts/1";
+		when(repository.existsByTypeAndUrlAndStatusIn(eq(CrawlJob.Type.ARTICLE), eq(url), anyList())).thenReturn(true);
+
+		service.enqueue("toss", url, null, "timeout");
+
+		verify(repository, never()).save(any());
+	}
+}
@@ -0,0 +1,68 @@
+package techblog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearDuplicateDetectorTest {
+
+	private static final long SIGNATURE = 0x1234_5678_9abc_def0L;
+
+	private NearDuplicateDetector detector;
+
+	@BeforeEach
+	void setUp() {
+		detector = new NearDuplicateDetector(null, null);
+		ReflectionTestUtils.setField(detector, "maxDistance", 3);
+	}
+
+	@Test
+	void findsSignatureWithinDistanceAcrossBands() {
+		detector.register(1L, SIGNATURE);
+
+		// 16비트 구간 4개 중 3개에서 한 비트씩 다름, 남은 한 구간이 같아서 후보가 된다
+		long query = SIGNATURE ^ (1L) ^ (1L << 16) ^ (1L << 32);
+
+		assertThat(detector.findDuplicate(query)).isEqualTo(1L);
+		assertThat(detector.findDuplicate(SIGNATURE)).isEqualTo(1L);
+	}
+
+	@Test
+	void ignoresSignaturesBeyondMaxDistance() {
+		detector.register(1L, SIGNATURE);
+
+		// 같은 구간 안에서 4비트 차이: 다른 구간은 같아서 후보가 되지만 거리 초과
+		assertThat(detector.findDuplicate(SIGNATURE ^ 0xfL)).isNull();
+		// 4개 구간 모두 한 비트씩 다르면 어느 버킷에도 걸리지 않는다
+		assertThat(detector.findDuplicate(SIGNATURE ^ (1L) ^ (1L << 16) ^ (1L << 32) ^ (1L << 48))).isNull();
+		assertThat(detector.findDuplicate(null)).isNull();
+	}
+
+	@Test
+	void returnsClosestCandidate() {
+		detector.register(1L, SIGNATURE ^ 0b111L);
+		detector.register(2L, SIGNATURE ^ 0b1L);
+
+		assertThat(detector.findDuplicate(SIGNATURE)).isEqualTo(2L);
+	}
+
+	@Test
+	void replaceMovesPostToNewSignature() {
+		long changed = ~SIGNATURE;
+		detector.register(1L, SIGNATURE);
+
+		detector.replace(1L, SIGNATURE, changed);
+
+		assertThat(detector.findDuplicate(SIGNATURE)).isNull();
+		assertThat(detector.findDuplicate(changed)).isEqualTo(1L);
+	}
+
+	@Test
+	void skipsPostsWithoutSignature() {
+		detector.register(1L, null);
+
+		assertThat(detector.findDuplicate(SIGNATURE)).isNull();
+	}
+}
@@ -0,0 +1,107 @@
+package techblog.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import techblog.dto.request.BlogSearchRequest;
+import techblog.exception.BusinessException;
+import techblog.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final BlogSearchRequest request = new BlogSearchRequest("kafka", List.of("toss", "kakao"), List.of("backend"),
+			LocalDateTime.of(2024, 1, 1, 0, 0), null, 0, 20);
+
+	@Test
+	void searchCursorRoundTrip() {
+		SearchCursor cursor = SearchCursor.ofSearch(request, "pit-1",
+				List.of(FieldValue.of(12.5), FieldValue.of(1718000000000L), FieldValue.of("url"), FieldValue.NULL));
+
+		SearchCursor decoded = SearchCursor.decode(cursor.encode(objectMapper), request, objectMapper);
+
+		assertThat(decoded.isSearch()).isTrue();
+		assertThat(decoded.pitId()).isEqualTo("pit-1");
+		List<FieldValue> values = decoded.searchAfterValues();
+		assertThat(values).hasSize(4);
+		assertThat(values.get(0).doubleValue()).isEqualTo(12.5);
+		assertThat(values.get(1).longValue()).isEqualTo(1718000000000L);
+		assertThat(values.get(2).stringValue()).isEqualTo("url");
+		assertThat(values.get(3).isNull()).isTrue();
+	}
+
+	@Test
+	void keysetCursorRoundTrip() {
+		LocalDateTime publishDate = LocalDateTime.of(2024, 9, 10, 9, 30, 15);
+		SearchCursor cursor = SearchCursor.ofKeyset(request, publishDate, 42L);
+
+		SearchCursor decoded = SearchCursor.decode(cursor.encode(objectMapper), request, objectMapper);
+
+		assertThat(decoded.isSearch()).isFalse();
+		assertThat(decoded.publishDate()).isEqualTo(publishDate);
+		assertThat(decoded.id()).isEqualTo(42L);
+	}
+
+	@Test
+	void keysetCursorForUndatedPosts() {
+		SearchCursor cursor = SearchCursor.ofKeyset(request, null, 7L);
+
+		SearchCursor decoded = SearchCursor.decode(cursor.encode(objectMapper), request, objectMapper);
+
+		assertThat(decoded.publishDate()).isNull();
+		assertThat(decoded.id()).isEqualTo(7L);
+	}
+
+	@Test
+	void encodedCursorIsUrlSafe() {
+		String encoded = SearchCursor.ofSearch(request, "pit/+=?", List.of(FieldValue.of("a/b+c")))
+				.encode(objectMapper);
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void rejectsCursorFromDifferentQuery() {
+		String encoded = SearchCursor.ofKeyset(request, LocalDateTime.of(2024, 9, 10, 0, 0), 42L).encode(objectMapper);
+		// 페이지 번호/크기는 검색 조건이 아니므로 달라도 이어서 조회 가능
+		BlogSearchRequest nextPage = new BlogSearchRequest(request.keyword(), request.companies(), request.tags(),
+				request.startDate(), request.endDate(), 3, 50);
+		BlogSearchRequest otherKeyword = new BlogSearchRequest("redis", request.companies(), request.tags(),
+				request.startDate(), request.endDate(), 0, 20);
+
+		assertThat(SearchCursor.decode(encoded, nextPage, objectMapper).id()).isEqualTo(42L);
+		assertInvalid(encoded, otherKeyword);
+		assertInvalid(encoded, BlogSearchRequest.of("kafka", List.of("toss")));
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		String withoutPosition = Base64.getUrlEncoder().withoutPadding().encodeToString(
+				("{\"query\":" + queryHashOf(request) + "}").getBytes(StandardCharsets.UTF_8));
+
+		assertInvalid("not-base64!", request);
+		assertInvalid(Base64.getUrlEncoder().encodeToString("[]".getBytes(StandardCharsets.UTF_8)), request);
+		assertInvalid(withoutPosition, request);
+	}
+
+	private void assertInvalid(String cursor, BlogSearchRequest searchRequest) {
+		assertThatThrownBy(() -> SearchCursor.decode(cursor, searchRequest, objectMapper))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_CURSOR);
+	}
+
+	// 위치 정보만 빠진 커서를 만들기 위해 같은 조건의 커서에서 해시를 꺼낸다
+	private int queryHashOf(BlogSearchRequest searchRequest) {
+		return SearchCursor.ofKeyset(searchRequest, null, 1L).query();
+	}
+}
@@ -0,0 +1,67 @@
+package techblog.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import techblog.repository.jpa.BlogPostJpaRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeenUrlIndexTest {
+
+	private final BlogPostJpaRepository repository = mock(BlogPostJpaRepository.class);
+	private final SeenUrlIndex index = new SeenUrlIndex(repository, null);
+
+	@Test
+	void matchesCanonicalVariantsOfSameUrl() {
+		index.add("https://Blog.Example.com/posts/1/?utm_source=rss#comments");
+
+		assertThat(index.contains("https://blog.example.com/posts/1")).isTrue();
+		assertThat(index.contains("https://blog.example.com:443/posts/1?fbclid=abc")).isTrue();
+		assertThat(index.contains("https://blog.example.com/posts/2")).isFalse();
+		// 스킴은 정규화하지 않으므로 다른 URL
+		assertThat(index.contains("http://blog.example.com/posts/1")).isFalse();
+		assertThat(index.contains(null)).isFalse();
+	}
+
+	@Test
+	void countsEachUrlOnce() {
+		index.add("https://blog.example.com/posts/1");
+		index.add("https://blog.example.com/posts/1/");
+		index.add(null);
+
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsEntriesWhenTableGrows() {
+		// 초기 테이블(65536칸)의 적재율 0.7을 넘겨서 크기를 늘리게 한다
+		int count = 100_000;
+		for (int i = 0; i < count; i++) {
+			index.add("https://blog.example.com/posts/" + i);
+		}
+
+		assertThat(index.size()).isEqualTo(count);
+		for (int i = 0; i < count; i++) {
+			assertThat(index.contains("https://blog.example.com/posts/" + i)).isTrue();
+		}
+		assertThat(index.contains("https://blog.example.com/posts/" + count)).isFalse();
+	}
+
+	@Test
+	void warmUpLoadsStoredUrls() {
+		when(repository.findUrlsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+				new Object[]{1L, "https://blog.example.com/posts/1?utm_medium=feed"},
+				new Object[]{2L, "https://blog.example.com/posts/2"}));
+
+		index.warmUp();
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.contains("https://blog.example.com/posts/1")).isTrue();
+	}
+}
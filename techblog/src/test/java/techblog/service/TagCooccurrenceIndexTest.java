@@ -0,0 +1,102 @@
+package techblog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TagCooccurrenceIndexTest {
+
+	private TagCooccurrenceIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TagCooccurrenceIndex(null, null);
+		ReflectionTestUtils.setField(index, "minCount", 1);
+	}
+
+	@Test
+	void ranksByCountAndMergesTagCase() {
+		index.add(List.of("Java", "Spring", "JPA"));
+		index.add(List.of("java", "spring"));
+		index.add(List.of("JAVA", "Kotlin"));
+
+		List<TagCooccurrenceIndex.RelatedTag> related = index.findRelated("java", 10, TagCooccurrenceIndex.Metric.COUNT);
+
+		// 응답에는 처음 들어온 표기를 쓴다
+		assertThat(related.get(0).tag()).isEqualTo("Spring");
+		assertThat(related.get(0).count()).isEqualTo(2);
+		assertThat(related).extracting(TagCooccurrenceIndex.RelatedTag::tag)
+				.containsExactlyInAnyOrder("Spring", "JPA", "Kotlin");
+		assertThat(index.tagCount()).isEqualTo(4);
+	}
+
+	@Test
+	void scoresJaccardAndPmi() {
+		index.add(List.of("java", "spring"));
+		index.add(List.of("java", "spring"));
+		index.add(List.of("java"));
+		index.add(List.of("go", "docker"));
+
+		TagCooccurrenceIndex.RelatedTag spring =
+				index.findRelated("java", 10, TagCooccurrenceIndex.Metric.JACCARD).get(0);
+		// 함께 2건 / (java 3건 + spring 2건 - 2)
+		assertThat(spring.score()).isCloseTo(2.0 / 3, within(1e-9));
+
+		// 항상 같이 쓰인 태그는 PMI 최댓값
+		TagCooccurrenceIndex.RelatedTag docker =
+				index.findRelated("go", 10, TagCooccurrenceIndex.Metric.PMI).get(0);
+		assertThat(docker.score()).isCloseTo(1.0, within(1e-9));
+	}
+
+	@Test
+	void excludesPairsBelowMinCount() {
+		ReflectionTestUtils.setField(index, "minCount", 2);
+		index.add(List.of("java", "spring"));
+		index.add(List.of("java", "spring"));
+		index.add(List.of("java", "kotlin"));
+
+		assertThat(index.findRelated("java", 10, TagCooccurrenceIndex.Metric.COUNT))
+				.extracting(TagCooccurrenceIndex.RelatedTag::tag)
+				.containsExactly("spring");
+	}
+
+	@Test
+	void replaceMovesCountsToNewTags() {
+		index.add(List.of("java", "spring"));
+
+		index.replace(List.of("java", "spring"), List.of("java", "kotlin"));
+
+		assertThat(index.findRelated("java", 10, TagCooccurrenceIndex.Metric.COUNT))
+				.extracting(TagCooccurrenceIndex.RelatedTag::tag)
+				.containsExactly("kotlin");
+		assertThat(index.findRelated("spring", 10, TagCooccurrenceIndex.Metric.COUNT)).isEmpty();
+	}
+
+	@Test
+	void capsLimit() {
+		List<String> tags = new ArrayList<>();
+		tags.add("java");
+		for (int i = 0; i < 150; i++) {
+			tags.add("tag-" + i);
+		}
+		index.add(tags);
+
+		assertThat(index.findRelated("java", 1000, TagCooccurrenceIndex.Metric.COUNT)).hasSize(100);
+		assertThat(index.findRelated("java", 5, TagCooccurrenceIndex.Metric.COUNT)).hasSize(5);
+	}
+
+	@Test
+	void returnsEmptyForUnknownTagOrNonPositiveLimit() {
+		index.add(List.of("java", "spring"));
+
+		assertThat(index.findRelated("rust", 10, TagCooccurrenceIndex.Metric.COUNT)).isEmpty();
+		assertThat(index.findRelated(null, 10, TagCooccurrenceIndex.Metric.COUNT)).isEmpty();
+		assertThat(index.findRelated("java", 0, TagCooccurrenceIndex.Metric.COUNT)).isEmpty();
+	}
+}